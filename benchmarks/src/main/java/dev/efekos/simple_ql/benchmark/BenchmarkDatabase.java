@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.benchmark;
+
+import dev.efekos.simple_ql.SimpleQL;
+import dev.efekos.simple_ql.data.Database;
+import dev.efekos.simple_ql.data.Table;
+
+/**
+ * An in-memory SQLite database with one table of {@link BenchmarkRow}s, shared by the states of the benchmarks.
+ */
+final class BenchmarkDatabase {
+
+    private final Database database;
+    private final Table<BenchmarkRow> table;
+
+    private BenchmarkDatabase(Database database, Table<BenchmarkRow> table) {
+        this.database = database;
+        this.table = table;
+    }
+
+    /**
+     * Creates a new database and fills its table.
+     *
+     * @param rows Amount of rows to insert, with keys from {@code 0} to {@code rows - 1}.
+     * @return Created database.
+     * @throws Exception if the database could not be created.
+     */
+    static BenchmarkDatabase create(int rows) throws Exception {
+        Database database = SimpleQL.createDatabase("jdbc:sqlite::memory:", "simpleql");
+        database.connect();
+        Table<BenchmarkRow> table = database.registerTable("rows", BenchmarkRow.class);
+        database.whenReady().join();
+        for (int i = 0; i < rows; i++) {
+            int id = i;
+            table.insertRow(row -> row.fill(id, id));
+        }
+        database.getWriteQueue().flush();
+        return new BenchmarkDatabase(database, table);
+    }
+
+    Table<BenchmarkRow> table() {
+        return table;
+    }
+
+    /**
+     * Waits until every write submitted so far is executed.
+     *
+     * @throws InterruptedException if the thread was interrupted while waiting.
+     */
+    void flush() throws InterruptedException {
+        database.getWriteQueue().flush();
+    }
+
+    void close() throws Exception {
+        database.disconnect();
+    }
+
+}
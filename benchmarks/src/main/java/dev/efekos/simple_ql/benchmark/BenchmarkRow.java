@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.benchmark;
+
+import dev.efekos.simple_ql.annotation.Primary;
+import dev.efekos.simple_ql.data.AdaptedList;
+import dev.efekos.simple_ql.data.Table;
+import dev.efekos.simple_ql.data.TableRow;
+import dev.efekos.simple_ql.implementor.PrimitiveImplementors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Row used by the benchmarks, with one column of every common type besides its key.
+ */
+public class BenchmarkRow extends TableRow<BenchmarkRow> {
+
+    /**
+     * Names of the columns {@link #setColumns(int, int)} changes, in order.
+     */
+    static final List<String> COLUMNS = List.of("name", "email", "age", "score", "balance", "active", "tags");
+
+    @Primary
+    private int id;
+    private String name;
+    private String email;
+    private int age;
+    private long score;
+    private double balance;
+    private boolean active;
+    private AdaptedList<String> tags;
+
+    public BenchmarkRow(Class<BenchmarkRow> clazz, Table<BenchmarkRow> parentTable) {
+        super(clazz, parentTable);
+    }
+
+    /**
+     * Fills every column of a new row.
+     *
+     * @param id   Key of the row.
+     * @param seed Number the values of the columns are derived from.
+     */
+    void fill(int id, int seed) {
+        setId(id);
+        setColumns(COLUMNS.size(), seed);
+    }
+
+    /**
+     * Changes the first {@code count} columns of {@link #COLUMNS}, marking them dirty.
+     *
+     * @param count Amount of columns to change.
+     * @param seed  Number the new values are derived from.
+     */
+    void setColumns(int count, int seed) {
+        if (count > 0) setName("name-" + seed);
+        if (count > 1) setEmail("user" + seed + "@example.com");
+        if (count > 2) setAge(seed % 100);
+        if (count > 3) setScore(seed * 31L);
+        if (count > 4) setBalance(seed / 100.0);
+        if (count > 5) setActive(seed % 2 == 0);
+        if (count > 6) setTags(List.of("tag-" + seed % 10, "tag-" + seed % 7, "tag-" + seed % 3));
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+        markDirty("id");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+        markDirty("name");
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+        markDirty("email");
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+        markDirty("age");
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+        markDirty("score");
+    }
+
+    public double getBalance() {
+        return balance;
+    }
+
+    public void setBalance(double balance) {
+        this.balance = balance;
+        markDirty("balance");
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+        markDirty("active");
+    }
+
+    public AdaptedList<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = new AdaptedList<>(new ArrayList<>(tags), PrimitiveImplementors.STRING);
+        markDirty("tags");
+    }
+
+}
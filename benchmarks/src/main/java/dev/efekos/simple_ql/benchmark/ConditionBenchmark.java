@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.benchmark;
+
+import dev.efekos.simple_ql.data.DatabaseType;
+import dev.efekos.simple_ql.query.CompiledQuery;
+import dev.efekos.simple_ql.query.Condition;
+import dev.efekos.simple_ql.query.Conditions;
+import dev.efekos.simple_ql.query.Query;
+import dev.efekos.simple_ql.query.QueryBuilder;
+import dev.efekos.simple_ql.query.StatementBuilder;
+import dev.efekos.simple_ql.query.StatementContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating SQL from conditions, without a database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConditionBenchmark {
+
+    private static final StatementContext CONTEXT = new StatementContext() {
+        @Override
+        public String getTableName() {
+            return "rows";
+        }
+
+        @Override
+        public DatabaseType getDatabaseType() {
+            return DatabaseType.SQLITE;
+        }
+
+        @Override
+        public List<String> getSearchableFields() {
+            return List.of();
+        }
+
+        @Override
+        public Optional<String> getFullTextTableName() {
+            return Optional.empty();
+        }
+
+        @Override
+        public String getPrimaryKeyName() {
+            return "id";
+        }
+
+        @Override
+        public String getFullTextKeyColumn() {
+            return "rowid";
+        }
+
+        @Override
+        public boolean isIndexed(String fieldName) {
+            return fieldName.equals("id");
+        }
+
+        @Override
+        public String getColumnType(String fieldName) {
+            return "TEXT";
+        }
+
+        @Override
+        public int getInListThreshold() {
+            return DatabaseType.SQLITE.getInListThreshold();
+        }
+    };
+
+    private Condition condition;
+    private Query query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        condition = Conditions.allOf(
+                Conditions.greaterThan("age", 18),
+                Conditions.between("score", 100L, 10_000L),
+                Conditions.matchTextStartingWith("name", "name-1"),
+                Conditions.anyOf(Conditions.matchTrue("active"), Conditions.lessThan("balance", 50.0)),
+                Conditions.matchOneOf("email", "user1@example.com", "user2@example.com", "user3@example.com"),
+                Conditions.not(Conditions.matchTextContains("email", "spam"))
+        );
+        query = new QueryBuilder()
+                .filterWithCondition(condition)
+                .sortDescending("score")
+                .limit(50)
+                .getQuery();
+    }
+
+    /**
+     * Generates the SQL of the conditions with their values written into it.
+     */
+    @Benchmark
+    public String toSqlCode() {
+        return condition.toSqlCode();
+    }
+
+    /**
+     * Generates the SQL template of the conditions from scratch, binding their values as parameters.
+     */
+    @Benchmark
+    public StatementBuilder appendSql() {
+        StatementBuilder builder = new StatementBuilder(CONTEXT);
+        condition.normalize().appendSql(builder);
+        return builder;
+    }
+
+    /**
+     * Compiles a whole query, which reuses its cached template after the first call.
+     */
+    @Benchmark
+    public CompiledQuery compile() {
+        return query.compile(CONTEXT, List.of(), "id");
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.benchmark;
+
+import dev.efekos.simple_ql.query.Query;
+import dev.efekos.simple_ql.query.QueryBuilder;
+import dev.efekos.simple_ql.query.QueryResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reads, including turning rows into {@link BenchmarkRow}s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class GetRowState {
+
+        static final int ROWS = 10_000;
+
+        BenchmarkDatabase database;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            database = BenchmarkDatabase.create(ROWS);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            database.close();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class KeyState {
+
+        private final SplittableRandom random = new SplittableRandom(42);
+
+        int next() {
+            return random.nextInt(GetRowState.ROWS);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class QueryState {
+
+        /**
+         * Amount of rows in the table, all of which are read by every query.
+         */
+        @Param({"1000", "100000"})
+        public int rows;
+
+        BenchmarkDatabase database;
+        Query query;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            database = BenchmarkDatabase.create(rows);
+            query = new QueryBuilder().getQuery();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            database.close();
+        }
+
+    }
+
+    @Benchmark
+    public Optional<BenchmarkRow> getRow(GetRowState state, KeyState keys) {
+        return state.database.table().getRow(keys.next());
+    }
+
+    @Benchmark
+    public QueryResult<BenchmarkRow> query(QueryState state) {
+        QueryResult<BenchmarkRow> result = state.database.table().query(state.query);
+        if (result.hasException()) throw new IllegalStateException(result.exception());
+        return result;
+    }
+
+}
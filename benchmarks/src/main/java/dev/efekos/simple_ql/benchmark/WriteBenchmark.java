@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.benchmark;
+
+import dev.efekos.simple_ql.data.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writes, from creating or changing a row until the write queue executed its statements.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @State(Scope.Thread)
+    public static class InsertState {
+
+        BenchmarkDatabase database;
+        int nextId;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            database = BenchmarkDatabase.create(0);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            database.close();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class CleanState {
+
+        /**
+         * Amount of columns changed before every {@link BenchmarkRow#clean()}.
+         */
+        @Param({"1", "5", "all"})
+        public String dirtyFields;
+
+        BenchmarkDatabase database;
+        BenchmarkRow row;
+        int columns;
+        int seed;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            database = BenchmarkDatabase.create(1);
+            row = database.table().getRow(0).orElseThrow();
+            columns = dirtyFields.equals("all") ? BenchmarkRow.COLUMNS.size() : Integer.parseInt(dirtyFields);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            database.close();
+        }
+
+    }
+
+    @Benchmark
+    public BenchmarkRow insertRow(InsertState state) throws InterruptedException {
+        int id = state.nextId++;
+        BenchmarkRow row = state.database.table().insertRow(r -> r.fill(id, id));
+        state.database.flush();
+        return row;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BenchmarkRow insertBatch(InsertState state) throws InterruptedException {
+        Table<BenchmarkRow> table = state.database.table();
+        BenchmarkRow last = null;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            int id = state.nextId++;
+            last = table.insertRow(r -> r.fill(id, id));
+        }
+        state.database.flush();
+        return last;
+    }
+
+    @Benchmark
+    public void clean(CleanState state) throws InterruptedException {
+        state.row.setColumns(state.columns, state.seed++);
+        state.row.clean();
+        state.database.flush();
+    }
+
+}
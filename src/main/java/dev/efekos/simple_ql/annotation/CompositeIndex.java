@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation used to create an index spanning multiple columns on the table of a
+ * {@link dev.efekos.simple_ql.data.TableRow} class. Column order matters, as the index can only be used by queries
+ * that filter or sort by a prefix of its columns.
+ *
+ * @since 1.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(CompositeIndexes.class)
+public @interface CompositeIndex {
+
+    /**
+     * Returns the names of the fields/columns the index is on, in order.
+     * @return Field names.
+     */
+    String[] value();
+
+    /**
+     * Returns the name of the index.
+     * @return Name of the index. Empty to generate one from the table and column names.
+     */
+    String name() default "";
+
+    /**
+     * Returns whether the index should be unique.
+     * @return Whether the index is unique.
+     */
+    boolean unique() default false;
+
+    /**
+     * Returns the condition of a partial index, which only indexes the rows matching it, such as
+     * {@code "deleted = 0"}. Only supported by SQLite, other databases index every row, and skip the index if it is
+     * unique.
+     * @return An SQL condition without the {@code WHERE} keyword. Empty to index every row.
+     */
+    String where() default "";
+
+}
@@ -25,13 +25,30 @@
 package dev.efekos.simple_ql.data;
 
 import dev.efekos.simple_ql.implementor.Implementor;
+import dev.efekos.simple_ql.metrics.Metrics;
+import dev.efekos.simple_ql.metrics.StatementCounter;
+import dev.efekos.simple_ql.thread.TransientErrors;
+import dev.efekos.simple_ql.thread.UpdateAction;
+import dev.efekos.simple_ql.thread.WriteQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Main class of SimpleQL, used to manage a database and create tables inside it.
@@ -40,9 +57,40 @@ import java.util.Optional;
  */
 public class Database {
 
+    private static final Logger log = LoggerFactory.getLogger(Database.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
     private final DatabaseInformation information;
     private final Map<String, Table<?>> tables = new HashMap<>();
-    private Connection connection;
+    private final ReentrantLock connectionLock = new ReentrantLock();
+    private final WriteQueue writeQueue = new WriteQueue(new WriteQueue.ConnectionSupplier() {
+        @Override
+        public Connection get() {
+            return getConnection();
+        }
+
+        @Override
+        public void invalidate() {
+            invalidateConnection();
+        }
+    }, connectionLock);
+    private volatile Connection connection;
+    private volatile boolean connected;
+    private volatile boolean suspect;
+    private volatile int maxParameters;
+    private volatile int regexCacheSize = 256;
+    private volatile int inListThreshold;
+    private volatile int defaultQueryTimeout;
+    private volatile long slowStatementThreshold = -1;
+    private volatile boolean redactParameters;
+    private volatile SlowStatementListener slowStatementListener = timing -> {
+    };
+    private volatile Metrics metrics = Metrics.NOOP;
+    private volatile StatementCounter statementCounter;
+    private volatile Executor prefetchExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "SimpleQL-PrefetchThread");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Creates a new database without connecting to it.
@@ -51,6 +99,7 @@ public class Database {
      */
     public Database(DatabaseInformation information) {
         this.information = information;
+        writeQueue.setExecutionListener(this::writeExecuted);
     }
 
     /**
@@ -60,11 +109,123 @@ public class Database {
      *                      database not being on or not being able to create/use the database name.
      */
     public void connect() throws SQLException {
-        this.connection = DriverManager.getConnection(information.getConnectionUrl(), information.getUsername(), information.getPassword());
+        Connection connection = DriverManager.getConnection(information.getConnectionUrl(), information.getUsername(), information.getPassword());
         if (information.getType().shouldCreateSchema()) {
             connection.prepareStatement("CREATE SCHEMA IF NOT EXISTS " + information.getDatabaseName() + ";").executeUpdate();
             connection.prepareStatement("USE " + information.getDatabaseName() + ";").executeUpdate();
         }
+        if (information.getType() == DatabaseType.SQLITE) registerRegexp(connection);
+        StatementCounter counter = statementCounter;
+        this.connection = counter != null ? counter.wrap(connection) : connection;
+        this.suspect = false;
+        this.connected = true;
+    }
+
+    private void registerRegexp(Connection connection) {
+        try {
+            RegexpFunction.register(connection, regexCacheSize);
+        } catch (SQLException | NoClassDefFoundError e) {
+            log.warn("Could not register the REGEXP function, regular expression conditions will not work.", e);
+        }
+    }
+
+    /**
+     * Closes the current connection, ignoring any errors since it is usually broken when this is called, and opens a
+     * new one in the same way {@link #connect()} does.
+     *
+     * @throws SQLException If a new connection could not be established.
+     * @since 1.2
+     */
+    public synchronized void reconnect() throws SQLException {
+        Connection old = connection;
+        if (old != null) {
+            try {
+                old.close();
+            } catch (SQLException ignored) {
+                // the connection is already broken.
+            }
+        }
+        connect();
+        log.info("Reconnected to the database.");
+    }
+
+    /**
+     * Marks the current connection as possibly broken, so the next call to {@link #getConnection()} validates it
+     * before returning it.
+     */
+    void invalidateConnection() {
+        suspect = true;
+    }
+
+    /**
+     * Handles an exception thrown while using the current connection, invalidating the connection if the exception is a
+     * connection error.
+     *
+     * @param e An exception thrown by JDBC.
+     */
+    void reportError(SQLException e) {
+        if (TransientErrors.isConnectionError(e)) invalidateConnection();
+    }
+
+    /**
+     * Records a statement of a table that failed.
+     *
+     * @param table     Name of the table.
+     * @param operation What the statement was executed for.
+     * @param e         The exception the statement failed with.
+     */
+    void statementFailed(String table, Operation operation, SQLException e) {
+        reportError(e);
+        recordError(table, operation);
+    }
+
+    private void recordError(String table, Operation operation) {
+        try {
+            metrics.recordError(table, operation);
+        } catch (RuntimeException e) {
+            log.warn("Metrics failed to record an error.", e);
+        }
+    }
+
+    /**
+     * Records a statement a table executed, logging it if it is slower than the slow statement threshold.
+     *
+     * @param table          Name of the table.
+     * @param operation      What the statement was executed for.
+     * @param sql            SQL of the statement.
+     * @param parameters     Values of the parameters of the statement.
+     * @param executions     Amount of times the statement was executed.
+     * @param rows           Amount of rows the statement read or changed.
+     * @param jdbcNanos      Time spent executing the statement and reading its results, in nanoseconds.
+     * @param hydrationNanos Time spent creating objects from the rows of the statement, in nanoseconds.
+     */
+    void statementExecuted(String table, Operation operation, String sql, List<Object> parameters, int executions, int rows, long jdbcNanos, long hydrationNanos) {
+        try {
+            metrics.recordStatement(table, operation, executions, rows, jdbcNanos + hydrationNanos);
+        } catch (RuntimeException e) {
+            log.warn("Metrics failed to record a statement.", e);
+        }
+        long threshold = slowStatementThreshold;
+        if (threshold < 0 || jdbcNanos + hydrationNanos < threshold) return;
+        List<Object> shownParameters = redactParameters ? Collections.nCopies(parameters.size(), "?") : parameters;
+        StatementTiming timing = new StatementTiming(table, operation, sql, shownParameters, executions, rows, Duration.ofNanos(jdbcNanos), Duration.ofNanos(hydrationNanos));
+        log.warn("Slow " + operation + " on table '" + table + "' took " + timing.totalTime().toMillis() + "ms (jdbc " +
+                timing.jdbcTime().toMillis() + "ms, hydration " + timing.hydrationTime().toMillis() + "ms, " + rows +
+                " rows, " + executions + " executions): " + sql + " " + shownParameters);
+        try {
+            slowStatementListener.onSlowStatement(timing);
+        } catch (RuntimeException e) {
+            log.warn("Slow statement listener failed.", e);
+        }
+    }
+
+    private void writeExecuted(List<UpdateAction> actions, int rows, long nanos, SQLException error) {
+        UpdateAction first = actions.get(0);
+        if (error != null) {
+            recordError(first.getTable(), Operation.ofWrite(first.getStatement()));
+            return;
+        }
+        statementExecuted(first.getTable(), Operation.ofWrite(first.getStatement()), first.getStatement(), first.getParameters(), actions.size(), rows, nanos, 0);
     }
 
     /**
@@ -79,7 +240,9 @@ public class Database {
     }
 
     /**
-     * Registers a new table, creates it on the database and returns it.
+     * Registers a new table, starts creating it on the database and returns it without waiting for the creation. Rows
+     * of the table can be used right away as their statements are held until the table is created. Use
+     * {@link Table#whenReady()} to wait for the table itself.
      *
      * @param name         Name of the table.
      * @param clazz        Class which rows of this table will be in.
@@ -99,22 +262,324 @@ public class Database {
     }
 
     /**
-     * Returns the currently open connection if there is one.
+     * Returns the information this database connects with.
+     *
+     * @return Information of this database.
+     * @since 1.2
+     */
+    public DatabaseInformation getInformation() {
+        return information;
+    }
+
+    /**
+     * Returns the maximum amount of bound parameters a single statement can have on this database. SQLite allows 999
+     * parameters before version 3.32.0 and 32766 since then, so the version of the connected database is checked.
+     *
+     * @return Maximum amount of parameters of a statement.
+     * @since 1.2
+     */
+    public int getMaxParameters() {
+        if (maxParameters != 0) return maxParameters;
+        DatabaseType type = information.getType();
+        int max = type.getMaxParameters();
+        if (type == DatabaseType.SQLITE) {
+            try {
+                DatabaseMetaData metaData = getConnection().getMetaData();
+                int major = metaData.getDatabaseMajorVersion();
+                int minor = metaData.getDatabaseMinorVersion();
+                if (major > 3 || (major == 3 && minor >= 32)) max = 32766;
+            } catch (SQLException e) {
+                log.warn("Could not read the database version, assuming " + max + " parameters at most.", e);
+                return max;
+            }
+        }
+        return maxParameters = max;
+    }
+
+    /**
+     * Returns the amount of values a one-of condition can list in a single {@code IN (...)} on this database. Defaults
+     * to {@link DatabaseType#getInListThreshold()} of the database type.
+     *
+     * @return {@code IN} list threshold.
+     * @since 1.2
+     */
+    public int getInListThreshold() {
+        int threshold = inListThreshold;
+        return threshold != 0 ? threshold : information.getType().getInListThreshold();
+    }
+
+    /**
+     * Changes the amount of values a one-of condition can list in a single {@code IN (...)} on this database. Compiled
+     * query templates are cached per threshold, so queries compiled after this use the new threshold.
+     *
+     * @param inListThreshold New {@code IN} list threshold.
+     * @throws IllegalArgumentException if {@code inListThreshold} is not positive.
+     * @since 1.2
+     */
+    public void setInListThreshold(int inListThreshold) {
+        if (inListThreshold <= 0) throw new IllegalArgumentException("IN list threshold must be greater than 0");
+        this.inListThreshold = inListThreshold;
+    }
+
+    /**
+     * Returns the amount of seconds a query can run for when it doesn't have its own timeout. Applies to queries,
+     * aggregates and row lookups of every table.
+     *
+     * @return Default query timeout in seconds, or {@code 0} if queries can run forever.
+     * @since 1.2
+     */
+    public int getDefaultQueryTimeout() {
+        return defaultQueryTimeout;
+    }
+
+    /**
+     * Changes the amount of seconds a query can run for when it doesn't have its own timeout (see
+     * {@link dev.efekos.simple_ql.query.Query#setTimeout(int)}). A query that runs out of time is cancelled, which
+     * releases the connection for other operations.
+     *
+     * @param defaultQueryTimeout New default query timeout in seconds, or {@code 0} to let queries run forever.
+     * @throws IllegalArgumentException if {@code defaultQueryTimeout} is a negative number.
+     * @since 1.2
+     */
+    public void setDefaultQueryTimeout(int defaultQueryTimeout) {
+        if (defaultQueryTimeout < 0) throw new IllegalArgumentException("Default query timeout must not be negative");
+        this.defaultQueryTimeout = defaultQueryTimeout;
+    }
+
+    /**
+     * Returns the metrics statements of this database are recorded to.
+     *
+     * @return Metrics of this database, {@link Metrics#NOOP} by default.
+     * @since 1.2
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Changes the metrics statements of this database are recorded to. Every statement a table or the write queue
+     * executes is recorded with its table, {@link Operation}, row count and latency, and every failed statement as an
+     * error. Use {@link dev.efekos.simple_ql.metrics.InMemoryMetrics} to read them in the application.
+     *
+     * @param metrics New metrics, or {@link Metrics#NOOP} to stop recording.
+     * @since 1.2
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns the counter JDBC calls of this database are counted by.
+     *
+     * @return Statement counter of this database, or {@code null} if there is none.
+     * @since 1.2
+     */
+    public StatementCounter getStatementCounter() {
+        return statementCounter;
+    }
+
+    /**
+     * Changes the counter JDBC calls of this database are counted by. Connections are wrapped by the counter when they
+     * are opened, so this should be called before {@link #connect()}, and only affects connections opened after this
+     * call. Meant for tests that check how many round trips an operation costs, see
+     * {@link StatementCounter#budget()}.
+     *
+     * @param statementCounter New statement counter, or {@code null} not to count calls.
+     * @since 1.2
+     */
+    public void setStatementCounter(StatementCounter statementCounter) {
+        this.statementCounter = statementCounter;
+    }
+
+    /**
+     * Returns the time a statement can take before it is logged as a slow statement.
+     *
+     * @return Slow statement threshold, or {@code null} if slow statements are not logged.
+     * @since 1.2
+     */
+    public Duration getSlowStatementThreshold() {
+        long threshold = slowStatementThreshold;
+        return threshold < 0 ? null : Duration.ofNanos(threshold);
+    }
+
+    /**
+     * Changes the time a statement can take before it is logged as a slow statement. Slow statements are logged as
+     * warnings with their SQL, parameters, row count and time spent in JDBC and in creating objects from rows, and
+     * passed to the {@link #setSlowStatementListener(SlowStatementListener) slow statement listener}.
+     *
+     * @param threshold New slow statement threshold, or {@code null} to stop logging slow statements. Disabled by
+     *                  default. {@link Duration#ZERO} logs every statement.
+     * @throws IllegalArgumentException if {@code threshold} is negative.
+     * @since 1.2
+     */
+    public void setSlowStatementThreshold(Duration threshold) {
+        if (threshold != null && threshold.isNegative()) throw new IllegalArgumentException("Threshold must not be negative");
+        this.slowStatementThreshold = threshold == null ? -1 : threshold.toNanos();
+    }
+
+    /**
+     * Returns whether the parameters of slow statements are replaced with {@code ?}s before being logged.
+     *
+     * @return Whether parameters are redacted.
+     * @since 1.2
+     */
+    public boolean isRedactParameters() {
+        return redactParameters;
+    }
+
+    /**
+     * Changes whether the parameters of slow statements are replaced with {@code ?}s before being logged, so values such
+     * as personal data don't end up in logs.
+     *
+     * @param redactParameters Whether parameters should be redacted.
+     * @since 1.2
+     */
+    public void setRedactParameters(boolean redactParameters) {
+        this.redactParameters = redactParameters;
+    }
+
+    /**
+     * Changes the listener notified about slow statements, in addition to the logged warning.
+     *
+     * @param slowStatementListener New slow statement listener.
+     * @since 1.2
+     */
+    public void setSlowStatementListener(SlowStatementListener slowStatementListener) {
+        this.slowStatementListener = Objects.requireNonNull(slowStatementListener);
+    }
+
+    /**
+     * Returns a future that completes once every table registered so far is created on the database. Tables create
+     * themselves in parallel, so this is usually as long as the slowest table creation.
+     *
+     * @return A future that completes once all registered tables are ready.
+     * @since 1.2
+     */
+    public CompletableFuture<Void> whenReady() {
+        return CompletableFuture.allOf(tables.values().stream().map(Table::whenReady).toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Returns the currently open connection if there is one. If the connection was closed, or failed with a connection
+     * error and does not pass validation anymore, a new connection is opened transparently before returning it.
+     * <p>
+     * The connection is shared by every table and the {@link #getWriteQueue()}, which executes batches of writes in
+     * transactions on it. It is not safe to execute statements on it without holding {@link #getConnectionLock()},
+     * as they might become part of such a transaction and be rolled back with it.
      *
      * @return A {@link Connection} instance if there is one open, {@code null} otherwise.
      */
     public Connection getConnection() {
-        return connection;
+        Connection current = connection;
+        if (!connected || current == null || !needsReconnect(current)) return current;
+        synchronized (this) {
+            if (connection == current) {
+                try {
+                    reconnect();
+                } catch (SQLException e) {
+                    log.error("Could not reconnect to the database.", e);
+                }
+            }
+            return connection;
+        }
+    }
+
+    private boolean needsReconnect(Connection current) {
+        try {
+            if (current.isClosed()) return true;
+            if (!suspect) return false;
+            boolean valid = current.isValid(VALIDATION_TIMEOUT_SECONDS);
+            if (valid) suspect = false;
+            return !valid;
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Returns the lock that guards {@link #getConnection()}. Tables and the write queue hold it while they use the
+     * connection, and the write queue holds it for the whole transaction of a batch, so statements executed by others
+     * never end up in the middle of one. Hold it while using the connection directly.
+     *
+     * @return Lock of the connection.
+     * @since 1.2
+     */
+    public Lock getConnectionLock() {
+        return connectionLock;
+    }
+
+    /**
+     * Returns the queue that inserts, updates and deletes of every table of this database are executed through. Can be
+     * used to configure its backpressure or to observe its depth.
+     *
+     * @return Write queue of this database.
+     * @since 1.2
+     */
+    public WriteQueue getWriteQueue() {
+        return writeQueue;
+    }
+
+    /**
+     * Returns the executor pages of {@link Table#pages(dev.efekos.simple_ql.query.Query, int)} are loaded ahead on. By
+     * default, a pool of daemon threads that are created when needed and stopped after being idle for a while.
+     *
+     * @return Prefetch executor of this database.
+     * @since 1.2
+     */
+    public Executor getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
+    /**
+     * Changes the executor pages of {@link Table#pages(dev.efekos.simple_ql.query.Query, int)} are loaded ahead on.
+     * Iterators that were already created keep using the old executor.
+     *
+     * @param prefetchExecutor New prefetch executor.
+     * @since 1.2
+     */
+    public void setPrefetchExecutor(Executor prefetchExecutor) {
+        this.prefetchExecutor = Objects.requireNonNull(prefetchExecutor);
+    }
+
+    /**
+     * Returns the maximum amount of compiled regular expressions the {@code REGEXP} function registered to SQLite
+     * connections keeps. Defaults to 256.
+     *
+     * @return Regular expression cache size.
+     * @since 1.2
+     */
+    public int getRegexCacheSize() {
+        return regexCacheSize;
+    }
+
+    /**
+     * Changes the maximum amount of compiled regular expressions the {@code REGEXP} function registered to SQLite
+     * connections keeps. Only affects connections opened after this call.
+     *
+     * @param regexCacheSize New regular expression cache size.
+     * @throws IllegalArgumentException if {@code regexCacheSize} is not positive.
+     * @since 1.2
+     */
+    public void setRegexCacheSize(int regexCacheSize) {
+        if (regexCacheSize <= 0) throw new IllegalArgumentException("Regex cache size must be greater than 0");
+        this.regexCacheSize = regexCacheSize;
     }
 
     /**
      * Tries to disconnect from the currently open connection, ignoring all {@link SQLException}s as there this method
-     * will be run moments before rest of the application stops in most cases.
+     * will be run moments before rest of the application stops in most cases. Waits for the {@link #getWriteQueue()}
+     * to execute every waiting statement before disconnecting.
      *
      * @return A nullable {@link Optional} of an {@link SQLException} in case it can be handled.
      */
     public Optional<SQLException> disconnect() {
         if (connection == null) return Optional.empty();
+        try {
+            writeQueue.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        connected = false;
         try {
             connection.close();
             return Optional.empty();
@@ -34,19 +34,60 @@ public enum DatabaseType {
     /**
      * MySQL databases.
      */
-    MYSQL(true, "mysql"),
+    MYSQL(true, "mysql", 65535, false, 1000),
 
     /**
      * SQLite databases.
      */
-    SQLITE(false, "sqlite");
+    SQLITE(false, "sqlite", 999, true, 256);
 
     private final boolean createSchema;
     private final String name;
+    private final int maxParameters;
+    private final boolean standaloneIndexes;
+    private final int inListThreshold;
 
-    DatabaseType(boolean createSchema, String name) {
+    DatabaseType(boolean createSchema, String name, int maxParameters, boolean standaloneIndexes, int inListThreshold) {
         this.createSchema = createSchema;
         this.name = name;
+        this.maxParameters = maxParameters;
+        this.standaloneIndexes = standaloneIndexes;
+        this.inListThreshold = inListThreshold;
+    }
+
+    /**
+     * Returns the default amount of values a one-of condition can list in a single {@code IN (...)} on this SQL
+     * database. Larger lists are read from a single JSON array parameter, using {@code JSON_TABLE} on MySQL and
+     * {@code json_each} on SQLite. Can be changed for a single database using {@link Database#setInListThreshold(int)}.
+     *
+     * @return Default {@code IN} list threshold.
+     * @since 1.2
+     */
+    public int getInListThreshold() {
+        return inListThreshold;
+    }
+
+    /**
+     * Returns whether this SQL database supports {@code CREATE INDEX IF NOT EXISTS} and partial indexes using
+     * {@code CREATE INDEX ... WHERE}. Databases that don't support it get a plain {@code CREATE INDEX} for every
+     * index that doesn't exist yet instead, and their partial indexes index every row.
+     *
+     * @return Whether indexes can be created with their own statements.
+     * @since 1.2
+     */
+    public boolean supportsStandaloneIndexes() {
+        return standaloneIndexes;
+    }
+
+    /**
+     * Returns the maximum amount of bound parameters a single statement can have on every version of this SQL
+     * database. Newer versions might allow more, see {@link Database#getMaxParameters()}.
+     *
+     * @return Maximum amount of parameters of a statement.
+     * @since 1.2
+     */
+    public int getMaxParameters() {
+        return maxParameters;
     }
 
     /**
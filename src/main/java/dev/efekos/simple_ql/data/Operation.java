@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.data;
+
+/**
+ * Kinds of database work a {@link Table} does, used to tell statements apart when they are logged or measured.
+ *
+ * @since 1.2
+ */
+public enum Operation {
+
+    /**
+     * Inserting a row, see {@link Table#insertRow(java.util.function.Consumer)}.
+     */
+    INSERT,
+
+    /**
+     * Writing the changed fields of a row, see {@link TableRow#clean()}.
+     */
+    CLEAN,
+
+    /**
+     * Deleting a row, see {@link TableRow#delete()}.
+     */
+    DELETE,
+
+    /**
+     * Looking rows up by their primary key or a unique field, see {@link Table#getRow(Object)}.
+     */
+    GET_ROW,
+
+    /**
+     * Querying rows, see {@link Table#query(dev.efekos.simple_ql.query.Query)}.
+     */
+    QUERY,
+
+    /**
+     * Counting and other aggregates, see {@link Table#count(dev.efekos.simple_ql.query.Condition...)}.
+     */
+    AGGREGATE,
+
+    /**
+     * Creating a table and its indexes.
+     */
+    DDL;
+
+    /**
+     * Finds the operation a data statement executed by the {@link dev.efekos.simple_ql.thread.WriteQueue} does.
+     *
+     * @param statement An {@code INSERT}, {@code UPDATE} or {@code DELETE} statement.
+     * @return Operation of the statement.
+     */
+    static Operation ofWrite(String statement) {
+        if (statement.regionMatches(true, 0, "INSERT", 0, 6)) return INSERT;
+        if (statement.regionMatches(true, 0, "DELETE", 0, 6)) return DELETE;
+        return CLEAN;
+    }
+
+}
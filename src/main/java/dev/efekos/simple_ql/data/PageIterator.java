@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.data;
+
+import dev.efekos.simple_ql.query.Cursor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * An iterator over the pages of a {@link dev.efekos.simple_ql.query.Query}, paginating by keys. Each page is loaded
+ * right after the last row of the previous page using a {@link Cursor}, so iterating over a large table doesn't get
+ * slower with every page like {@code OFFSET} does. Obtained using {@link Table#pages(dev.efekos.simple_ql.query.Query, int)}.
+ * <p>
+ * Next pages can be loaded ahead on a background executor while the current one is processed. How far ahead is limited
+ * by a prefetch depth and by a cap on the amount of rows in memory, which counts the page being processed along with
+ * the pages loaded ahead of it. Closing the iterator stops loading pages ahead.
+ * @param <T> Type of the rows.
+ * @since 1.2
+ */
+public class PageIterator<T extends TableRow<T>> implements Iterator<List<T>>, AutoCloseable {
+
+    private final PageLoader<T> loader;
+    private final int pageSize;
+    private final Executor executor;
+    private final int window;
+    private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+    private volatile boolean closed;
+    private Cursor cursor;
+    private List<T> next;
+    private boolean finished;
+
+    PageIterator(PageLoader<T> loader, int pageSize, Cursor cursor, Executor executor, int prefetchDepth, int maxBufferedRows) {
+        this.loader = loader;
+        this.pageSize = pageSize;
+        this.cursor = cursor;
+        this.executor = executor;
+        // pages that are being loaded count as full, so the cap holds no matter how large they turn out to be, and the
+        // page being processed counts too, since it is still in memory while the ones after it are loaded
+        this.window = Math.max(0, Math.min(prefetchDepth, maxBufferedRows / pageSize - 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws dev.efekos.simple_ql.exception.TableException if the page could not be loaded.
+     */
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        if (finished || closed) return false;
+        List<T> page = window > 0 ? take() : loader.load(cursor);
+        if (page.size() < pageSize) finished = true;
+        if (page.isEmpty()) return false;
+        next = page;
+        return true;
+    }
+
+    private List<T> take() {
+        if (pending.isEmpty()) {
+            Cursor start = cursor;
+            pending.addLast(CompletableFuture.supplyAsync(() -> loader.load(start), executor));
+        }
+        CompletableFuture<List<T>> head = pending.pollFirst();
+        while (pending.size() < window) {
+            CompletableFuture<List<T>> tail = pending.isEmpty() ? head : pending.peekLast();
+            pending.addLast(tail.thenApplyAsync(this::loadAfter, executor));
+        }
+        try {
+            return head.join();
+        } catch (CompletionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw e;
+        }
+    }
+
+    private List<T> loadAfter(List<T> previous) {
+        if (closed || previous.size() < pageSize) return List.of();
+        return loader.load(loader.cursorOf(previous.get(previous.size() - 1)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws dev.efekos.simple_ql.exception.TableException if the page could not be loaded.
+     */
+    @Override
+    public List<T> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        List<T> page = next;
+        next = null;
+        cursor = loader.cursorOf(page.get(page.size() - 1));
+        return page;
+    }
+
+    /**
+     * Returns the cursor pointing to the last row of the last page returned by {@link #next()}. Can be stored and given
+     * to {@link dev.efekos.simple_ql.query.Query#setCursor(Cursor)} later on to continue from the same position.
+     * @return Current cursor, or the starting cursor if no pages were returned yet.
+     */
+    public Cursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Returns the maximum amount of rows in a page.
+     * @return Page size.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the amount of pages this iterator loads ahead, after limiting the prefetch depth by the buffered row cap.
+     * @return Amount of pages loaded ahead. {@code 0} if every page is loaded when it is requested.
+     */
+    public int getPrefetchDepth() {
+        return window;
+    }
+
+    /**
+     * Stops loading pages ahead and drops the pages that were loaded but not returned yet. {@link #hasNext()} returns
+     * {@code false} after closing, except for a page that was already checked for using it.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (CompletableFuture<List<T>> future : pending) future.cancel(false);
+        pending.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "PageIterator{" +
+                "pageSize=" + pageSize +
+                ", prefetchDepth=" + window +
+                ", cursor=" + cursor +
+                ", finished=" + finished +
+                ", closed=" + closed +
+                '}';
+    }
+
+    interface PageLoader<T> {
+
+        List<T> load(Cursor after);
+
+        Cursor cursorOf(T row);
+
+    }
+
+}
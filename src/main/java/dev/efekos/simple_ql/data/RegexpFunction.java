@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.data;
+
+import org.sqlite.Function;
+import org.sqlite.SQLiteConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The {@code REGEXP} function SQLite calls for {@code X REGEXP Y} expressions, which it declares but does not
+ * implement. Compiled {@link Pattern}s are kept in a bounded cache, evicting the least recently used one once full, so
+ * the pattern of a query is not compiled again for every row it checks. This is the only class that references the
+ * SQLite driver, so it is never loaded unless the database is SQLite.
+ */
+final class RegexpFunction extends Function {
+
+    private final Map<String, Pattern> patterns;
+
+    private RegexpFunction(int maxPatterns) {
+        this.patterns = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+                return size() > maxPatterns;
+            }
+        };
+    }
+
+    /**
+     * Registers a new {@code REGEXP} function to the given SQLite connection.
+     *
+     * @param connection  Connection to register the function to.
+     * @param maxPatterns Maximum amount of compiled patterns to keep.
+     * @throws SQLException If the connection is not an SQLite connection or the function could not be registered.
+     */
+    static void register(Connection connection, int maxPatterns) throws SQLException {
+        Function.create(connection.unwrap(SQLiteConnection.class), "REGEXP", new RegexpFunction(maxPatterns), 2, Function.FLAG_DETERMINISTIC);
+    }
+
+    @Override
+    protected void xFunc() throws SQLException {
+        if (args() != 2) throw new SQLException("REGEXP takes 2 arguments, got " + args());
+        String regex = value_text(0);
+        String text = value_text(1);
+        if (regex == null || text == null) {
+            result();
+            return;
+        }
+        result(getPattern(regex).matcher(text).find() ? 1 : 0);
+    }
+
+    private Pattern getPattern(String regex) throws SQLException {
+        synchronized (patterns) {
+            Pattern pattern = patterns.get(regex);
+            if (pattern != null) return pattern;
+        }
+        try {
+            Pattern pattern = Pattern.compile(regex);
+            synchronized (patterns) {
+                patterns.put(regex, pattern);
+            }
+            return pattern;
+        } catch (PatternSyntaxException e) {
+            throw new SQLException("Invalid regular expression: " + regex, e);
+        }
+    }
+
+}
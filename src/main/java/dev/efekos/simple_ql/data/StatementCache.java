@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.data;
+
+import dev.efekos.simple_ql.jfr.CacheEvent;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps statements that are executed over and over prepared, so the database doesn't have to parse and plan them on
+ * every call. Statements belong to the connection they were prepared on, and are dropped once the database reconnects.
+ * Callers must synchronize on a statement while binding and executing it, as statements aren't thread-safe.
+ */
+final class StatementCache {
+
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private final String table;
+    private Connection connection;
+
+    StatementCache(String table) {
+        this.table = table;
+    }
+
+    synchronized PreparedStatement get(Connection current, String sql) throws SQLException {
+        if (current != connection) {
+            clear();
+            connection = current;
+        }
+        PreparedStatement stmt = statements.get(sql);
+        boolean hit = stmt != null && !stmt.isClosed();
+        CacheEvent.emit(CacheEvent.STATEMENT, table, sql, hit);
+        if (!hit) {
+            stmt = current.prepareStatement(sql);
+            statements.put(sql, stmt);
+        }
+        return stmt;
+    }
+
+    synchronized void clear() {
+        for (PreparedStatement stmt : statements.values())
+            try {
+                stmt.close();
+            } catch (SQLException ignored) {
+                // the connection is most likely gone already
+            }
+        statements.clear();
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.data;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Describes a statement that took longer than the slow statement threshold of its {@link Database} (see
+ * {@link Database#setSlowStatementThreshold(Duration)}). Time spent by JDBC, which includes the database executing the
+ * statement and sending the rows, is kept apart from time spent by SimpleQL turning the rows into objects.
+ *
+ * @param table         Name of the table the statement was executed on.
+ * @param operation     What the statement was executed for.
+ * @param sql           SQL of the statement.
+ * @param parameters    Values of the parameters of the statement, or {@code "?"}s if parameters are redacted. Holds the
+ *                      parameters of the first execution if the statement was executed as a batch.
+ * @param executions    Amount of times the statement was executed, which is more than 1 for batches.
+ * @param rows          Amount of rows the statement read or changed.
+ * @param jdbcTime      Time spent executing the statement and reading its results.
+ * @param hydrationTime Time spent creating objects from the rows of the statement.
+ * @since 1.2
+ */
+public record StatementTiming(String table, Operation operation, String sql, List<Object> parameters, int executions,
+                              int rows, Duration jdbcTime, Duration hydrationTime) {
+
+    /**
+     * Returns the total time the statement took.
+     *
+     * @return Sum of the JDBC and hydration times.
+     */
+    public Duration totalTime() {
+        return jdbcTime.plus(hydrationTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "StatementTiming{" +
+                "table='" + table + '\'' +
+                ", operation=" + operation +
+                ", sql='" + sql + '\'' +
+                ", parameters=" + parameters +
+                ", executions=" + executions +
+                ", rows=" + rows +
+                ", jdbcTime=" + jdbcTime +
+                ", hydrationTime=" + hydrationTime +
+                '}';
+    }
+
+}
@@ -25,14 +25,30 @@
 package dev.efekos.simple_ql.data;
 
 import dev.efekos.simple_ql.annotation.AutoIncrement;
+import dev.efekos.simple_ql.annotation.CompositeIndex;
+import dev.efekos.simple_ql.annotation.Index;
 import dev.efekos.simple_ql.annotation.Primary;
+import dev.efekos.simple_ql.annotation.Searchable;
 import dev.efekos.simple_ql.annotation.Type;
 import dev.efekos.simple_ql.annotation.Unique;
 import dev.efekos.simple_ql.exception.NoGetterException;
 import dev.efekos.simple_ql.exception.NoSetterException;
+import dev.efekos.simple_ql.exception.TableException;
 import dev.efekos.simple_ql.implementor.Implementor;
+import dev.efekos.simple_ql.jfr.CacheEvent;
+import dev.efekos.simple_ql.jfr.HydrationEvent;
+import dev.efekos.simple_ql.jfr.StatementEvent;
+import dev.efekos.simple_ql.query.Aggregate;
+import dev.efekos.simple_ql.query.AllOfCondition;
+import dev.efekos.simple_ql.query.CompiledQuery;
+import dev.efekos.simple_ql.query.Condition;
+import dev.efekos.simple_ql.query.Cursor;
+import dev.efekos.simple_ql.query.FullTextCondition;
 import dev.efekos.simple_ql.query.Query;
 import dev.efekos.simple_ql.query.QueryResult;
+import dev.efekos.simple_ql.query.Sort;
+import dev.efekos.simple_ql.query.StatementContext;
+import dev.efekos.simple_ql.thread.UpdateAction;
 import dev.efekos.simple_ql.thread.UpdateActionThread;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,24 +57,106 @@ import java.lang.reflect.*;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * One of the main classes of SimpleQL, used to manage a table created using a {@link Database}. Each table will have a
  * list of {@link T} when using, and it'll be converted to table rows in the background when updating the database. All
- * update actions are done by {@link UpdateActionThread}, making updates a lot faster.
+ * update actions are executed in the background by the {@link dev.efekos.simple_ql.thread.WriteQueue} of the database,
+ * making updates a lot faster.
  *
  * @param <T> Type which rows of this table will become.
  */
 public class Table<T extends TableRow<T>> {
 
     private static final Logger log = LoggerFactory.getLogger(Table.class);
+    private static final String FULL_TEXT_KEY_COLUMN = "fts_key";
     private final Database database;
     private final String name;
     private final Class<T> clazz;
     private final Map<Class<?>, Implementor<?, ?>> implementors = new HashMap<>();
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private final List<UpdateAction> heldUpdates = new ArrayList<>();
+    private final WriteOverlay overlay = new WriteOverlay();
+    private final List<IndexDefinition> indexes = new ArrayList<>();
+    private final StatementCache statements;
+    private final List<String> searchableFields = new ArrayList<>();
+    private final StatementContext context = new StatementContext() {
+        @Override
+        public String getTableName() {
+            return name;
+        }
+
+        @Override
+        public DatabaseType getDatabaseType() {
+            return database.getInformation().getType();
+        }
+
+        @Override
+        public List<String> getSearchableFields() {
+            return searchableFields;
+        }
+
+        @Override
+        public Optional<String> getFullTextTableName() {
+            if (searchableFields.isEmpty() || getDatabaseType() != DatabaseType.SQLITE) return Optional.empty();
+            return Optional.of(name + "_fts");
+        }
+
+        @Override
+        public String getPrimaryKeyName() {
+            return primaryKey.getName();
+        }
+
+        @Override
+        public String getFullTextKeyColumn() {
+            return hasRowidPrimaryKey() ? "rowid" : FULL_TEXT_KEY_COLUMN;
+        }
+
+        @Override
+        public boolean isIndexed(String fieldName) {
+            Field field = findField(fieldName);
+            if (field == null) return false;
+            if (field.isAnnotationPresent(Primary.class) || field.isAnnotationPresent(Unique.class)) return true;
+            for (IndexDefinition index : indexes)
+                if (index.where().isEmpty() && index.columns().get(0).equals(fieldName)) return true;
+            return false;
+        }
+
+        @Override
+        public String getColumnType(String fieldName) {
+            Field field = findField(fieldName);
+            return field == null ? null : findType(field);
+        }
+
+        @Override
+        public int getInListThreshold() {
+            return database.getInListThreshold();
+        }
+
+        @Override
+        public String toString() {
+            return "StatementContext{" +
+                    "tableName='" + name + '\'' +
+                    '}';
+        }
+    };
+    private final Condition.ColumnAccessor<T> columns = fieldName -> {
+        Field field = getField(fieldName);
+        return row -> writeColumnValue(field, getFieldValue(row, field));
+    };
+    private final Map<String, UniqueKeyCache> uniqueCaches = new ConcurrentHashMap<>();
+    private volatile int uniqueCacheSize = 0;
     private Field primaryKey = null;
+    private volatile RowReader rowReader;
+    private volatile Throwable creationError;
 
     /**
      * Creates a new table instance. This constructor isn't public as Tables should be created using
@@ -73,6 +171,7 @@ public class Table<T extends TableRow<T>> {
         this.database = database;
         this.name = name;
         this.clazz = clazz;
+        this.statements = new StatementCache(name);
 
         for (Implementor<?, ?> implementor : implementors) {
             this.implementors.put(grabClass(implementor), implementor);
@@ -85,6 +184,25 @@ public class Table<T extends TableRow<T>> {
             }
         if (primaryKey == null)
             throw new IllegalArgumentException("At least one primary key is required for " + clazz.getName());
+
+        for (Field field : clazz.getDeclaredFields())
+            if (field.isAnnotationPresent(Index.class)) {
+                Index index = field.getAnnotation(Index.class);
+                indexes.add(createIndexDefinition(index.name(), new String[]{field.getName()}, index.unique(), index.where()));
+            }
+        for (CompositeIndex index : clazz.getAnnotationsByType(CompositeIndex.class))
+            indexes.add(createIndexDefinition(index.name(), index.value(), index.unique(), index.where()));
+
+        for (Field field : clazz.getDeclaredFields())
+            if (field.isAnnotationPresent(Searchable.class)) searchableFields.add(field.getName());
+    }
+
+    private IndexDefinition createIndexDefinition(String indexName, String[] fieldNames, boolean unique, String where) {
+        if (fieldNames.length == 0) throw new IllegalArgumentException("Indexes of " + clazz.getName() + " must have at least one field");
+        List<String> columns = new ArrayList<>();
+        for (String fieldName : fieldNames) columns.add(getField(fieldName).getName());
+        String finalName = indexName.isEmpty() ? "idx_" + name + "_" + String.join("_", columns) : indexName;
+        return new IndexDefinition(finalName, columns, unique, where);
     }
 
     @SuppressWarnings("unchecked")
@@ -123,6 +241,132 @@ public class Table<T extends TableRow<T>> {
         return builder.append(")").toString();
     }
 
+    /**
+     * Generates the statements that create the indexes of this table. Databases that support
+     * {@code CREATE INDEX IF NOT EXISTS} get one statement for every index. Other databases only get statements for
+     * the indexes that don't exist yet, and since they don't support partial indexes, a partial index indexes every row
+     * there, unless it is unique, in which case it is skipped as it would reject rows the condition leaves out.
+     *
+     * @return Statements to execute after creating this table.
+     */
+    private List<String> createIndexCodes() {
+        List<String> codes = new ArrayList<>();
+        boolean standalone = usesStandaloneIndexes();
+        for (IndexDefinition index : indexes) {
+            if (!standalone && index.unique() && !index.where().isEmpty()) {
+                log.warn("Skipping unique partial index '" + index.name() + "' of table '" + name + "', partial indexes are not supported by " + database.getInformation().getType().getName());
+                continue;
+            }
+            if (!standalone && indexExists(index.name())) continue;
+            StringBuilder builder = new StringBuilder("CREATE ");
+            if (index.unique()) builder.append("UNIQUE ");
+            builder.append("INDEX ");
+            if (standalone) builder.append("IF NOT EXISTS ");
+            builder.append(index.name());
+            builder.append(" ON ").append(name).append(" (").append(String.join(", ", index.columns())).append(")");
+            if (standalone && !index.where().isEmpty()) builder.append(" WHERE ").append(index.where());
+            codes.add(builder.toString());
+        }
+        return codes;
+    }
+
+    private boolean indexExists(String index) {
+        Lock lock = database.getConnectionLock();
+        lock.lock();
+        try (PreparedStatement stmt = database.getConnection().prepareStatement("SELECT 1 FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?;")) {
+            stmt.setString(1, name);
+            stmt.setString(2, index);
+            try (ResultSet set = stmt.executeQuery()) {
+                return set.next();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not check whether index '" + index + "' exists, it will be created", e);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Generates the statements that create the FTS5 table of the searchable columns and the triggers that keep it in
+     * sync with this table, if the database is SQLite. The FTS5 table is filled from the existing rows when it is
+     * created for the first time.
+     * <p>
+     * An FTS5 table finds rows by their rowid, which {@code VACUUM} can renumber unless it is aliased by an
+     * {@code INTEGER PRIMARY KEY} column. If the primary key is such a column, the FTS5 table uses this table as its
+     * external content, so columns aren't stored twice. Otherwise, the FTS5 table stores its own copy of the columns
+     * along with the primary key of each row in its {@value #FULL_TEXT_KEY_COLUMN} column.
+     *
+     * @return Statements to execute after creating this table.
+     */
+    private List<String> createFullTextCodes() {
+        List<String> codes = new ArrayList<>();
+        Optional<String> fullTextTable = context.getFullTextTableName();
+        if (fullTextTable.isEmpty()) return codes;
+        String fts = fullTextTable.get();
+        String key = primaryKey.getName();
+        String columnList = String.join(", ", searchableFields);
+        String newValues = "new." + String.join(", new.", searchableFields);
+        String oldValues = "old." + String.join(", old.", searchableFields);
+        boolean existed = fullTextTableExists(fts);
+
+        if (hasRowidPrimaryKey()) {
+            codes.add("CREATE VIRTUAL TABLE IF NOT EXISTS " + fts + " USING fts5(" + columnList + ", content='" + name + "', content_rowid='" + key + "')");
+            codes.add("CREATE TRIGGER IF NOT EXISTS " + fts + "_insert AFTER INSERT ON " + name + " BEGIN " +
+                    "INSERT INTO " + fts + "(rowid, " + columnList + ") VALUES (new." + key + ", " + newValues + "); END");
+            codes.add("CREATE TRIGGER IF NOT EXISTS " + fts + "_delete AFTER DELETE ON " + name + " BEGIN " +
+                    "INSERT INTO " + fts + "(" + fts + ", rowid, " + columnList + ") VALUES ('delete', old." + key + ", " + oldValues + "); END");
+            codes.add("CREATE TRIGGER IF NOT EXISTS " + fts + "_update AFTER UPDATE OF " + key + ", " + columnList + " ON " + name + " BEGIN " +
+                    "INSERT INTO " + fts + "(" + fts + ", rowid, " + columnList + ") VALUES ('delete', old." + key + ", " + oldValues + "); " +
+                    "INSERT INTO " + fts + "(rowid, " + columnList + ") VALUES (new." + key + ", " + newValues + "); END");
+            if (!existed) codes.add("INSERT INTO " + fts + "(" + fts + ") VALUES ('rebuild')");
+            return codes;
+        }
+
+        String keyedColumnList = FULL_TEXT_KEY_COLUMN + ", " + columnList;
+        codes.add("CREATE VIRTUAL TABLE IF NOT EXISTS " + fts + " USING fts5(" + FULL_TEXT_KEY_COLUMN + " UNINDEXED, " + columnList + ")");
+        codes.add("CREATE TRIGGER IF NOT EXISTS " + fts + "_insert AFTER INSERT ON " + name + " BEGIN " +
+                "INSERT INTO " + fts + "(" + keyedColumnList + ") VALUES (new." + key + ", " + newValues + "); END");
+        codes.add("CREATE TRIGGER IF NOT EXISTS " + fts + "_delete AFTER DELETE ON " + name + " BEGIN " +
+                "DELETE FROM " + fts + " WHERE " + FULL_TEXT_KEY_COLUMN + " = old." + key + "; END");
+        codes.add("CREATE TRIGGER IF NOT EXISTS " + fts + "_update AFTER UPDATE OF " + key + ", " + columnList + " ON " + name + " BEGIN " +
+                "DELETE FROM " + fts + " WHERE " + FULL_TEXT_KEY_COLUMN + " = old." + key + "; " +
+                "INSERT INTO " + fts + "(" + keyedColumnList + ") VALUES (new." + key + ", " + newValues + "); END");
+        if (!existed) codes.add("INSERT INTO " + fts + "(" + keyedColumnList + ") SELECT " + key + ", " + columnList + " FROM " + name);
+        return codes;
+    }
+
+    /**
+     * Checks whether the primary key of this table is an alias of its rowid, which is only the case for columns
+     * declared exactly as {@code INTEGER PRIMARY KEY}.
+     *
+     * @return Whether the primary key is the rowid.
+     */
+    private boolean hasRowidPrimaryKey() {
+        return findType(primaryKey).trim().equalsIgnoreCase("INTEGER");
+    }
+
+    private boolean fullTextTableExists(String fts) {
+        Lock lock = database.getConnectionLock();
+        lock.lock();
+        try (PreparedStatement stmt = database.getConnection().prepareStatement("SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = ?;")) {
+            stmt.setString(1, fts);
+            try (ResultSet set = stmt.executeQuery()) {
+                return set.next();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not check whether full-text table '" + fts + "' exists, it will be rebuilt", e);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean usesStandaloneIndexes() {
+        DatabaseType type = database.getInformation().getType();
+        return type == null || type.supportsStandaloneIndexes();
+    }
+
     private String findType(Field field) {
         if (field.isAnnotationPresent(Type.class)) return field.getAnnotation(Type.class).value();
         Class<?> type = field.getType();
@@ -136,10 +380,90 @@ public class Table<T extends TableRow<T>> {
     }
 
     /**
-     * Runs an SQL query on the database to create the table if it doesn't exist.
+     * Runs an SQL query on the database to create the table and its indexes if they don't exist. The query runs on its own thread, so
+     * tables registered one after another create themselves in parallel. Data statements of this table submitted
+     * before the query completes are held back and submitted to the write queue once it does.
+     *
+     * @return A future that completes once the table is created.
      */
-    void checkExistent() {
-        new UpdateActionThread(database.getConnection(), createGenerationCode(), stmt1 -> stmt1).start();
+    CompletableFuture<Void> checkExistent() {
+        List<String> ddl = new ArrayList<>();
+        ddl.add(createGenerationCode());
+        ddl.addAll(createIndexCodes());
+        ddl.addAll(createFullTextCodes());
+        UpdateActionThread thread = new UpdateActionThread(database.getConnection(), ddl, stmt1 -> stmt1, database.getConnectionLock());
+        long start = System.nanoTime();
+        thread.getCompletion().whenComplete((unused, throwable) -> {
+            if (throwable == null)
+                database.statementExecuted(name, Operation.DDL, String.join("; ", ddl), List.of(), ddl.size(), 0, System.nanoTime() - start, 0);
+            else if (throwable instanceof SQLException e) database.statementFailed(name, Operation.DDL, e);
+            synchronized (heldUpdates) {
+                if (throwable != null) {
+                    creationError = throwable;
+                    ready.completeExceptionally(throwable);
+                } else ready.complete(null);
+                for (UpdateAction held : heldUpdates) {
+                    // the table might not exist, so held statements fail with the reason instead of a missing table
+                    if (throwable != null) {
+                        held.getCompletion().completeExceptionally(throwable);
+                        continue;
+                    }
+                    try {
+                        database.getWriteQueue().submit(held);
+                    } catch (RuntimeException e) {
+                        held.getCompletion().completeExceptionally(e);
+                    }
+                }
+                heldUpdates.clear();
+            }
+        });
+        thread.start();
+        return whenReady();
+    }
+
+    /**
+     * Returns a future that completes once this table is created on the database. Rows can be inserted, updated and
+     * deleted before that, as their statements will wait for the table, but waiting for this future is useful when
+     * the table should be queried right after registering it.
+     *
+     * @return A future that completes once the table is ready, or completes exceptionally if it could not be created.
+     * @since 1.2
+     */
+    public CompletableFuture<Void> whenReady() {
+        return ready.copy();
+    }
+
+    /**
+     * Submits a data statement of this table to the write queue, or holds it until the table is ready if it isn't yet.
+     * If the table could not be created, the statement isn't executed and fails with the error that stopped it.
+     *
+     * @param key        Primary key of the row the statement is for, which will be flushed from the overlay once the
+     *                   statement is done executing, or {@code null} if the statement isn't recorded in the overlay.
+     * @param statement  Statement to execute.
+     * @param setters    Setters of the parameters, see {@link #getColumnSetter(Object)}.
+     * @param parameters Column values to set the parameters of the statement to.
+     * @throws dev.efekos.simple_ql.exception.WriteQueueFullException if the write queue is full and doesn't allow
+     *                                                                 waiting.
+     */
+    private void submitUpdate(Object key, String statement, List<SetterAction<Object>> setters, Object... parameters) {
+        UpdateAction action = new UpdateAction(name, statement, setters, parameters);
+        if (key != null) action.getCompletion().whenComplete((unused, throwable) -> overlay.flushed(key));
+        synchronized (heldUpdates) {
+            if (!ready.isDone()) {
+                heldUpdates.add(action);
+                return;
+            }
+        }
+        if (creationError != null) {
+            action.getCompletion().completeExceptionally(creationError);
+            return;
+        }
+        try {
+            database.getWriteQueue().submit(action);
+        } catch (RuntimeException e) {
+            action.getCompletion().completeExceptionally(e);
+            throw e;
+        }
     }
 
     /**
@@ -147,24 +471,20 @@ public class Table<T extends TableRow<T>> {
      *
      * @param row {@link T} instance to clean.
      */
-    @SuppressWarnings("unchecked")
     void clean(T row) {
         if (!row.isDirty()) return;
+        Object key = getPrimaryKey(row);
+        Object keyValue = writeColumnValue(primaryKey, key);
 
         for (Field field : row.getClazz().getDeclaredFields()) {
             if (!row.isDirty(field.getName())) continue;
-            field.setAccessible(true);
-            row.getPrimaryField().setAccessible(true);
-            Optional<SetterAction<Object>> setter = findSetter(field.getType());
-            new UpdateActionThread(database.getConnection(), "UPDATE " + name + " SET " + field.getName() + "=? WHERE " + primaryKey.getName() + "= ?;", stmt -> {
-                if (setter.isPresent()) {
-                    if(implementors.containsKey(field.getType())) setter.get().set(stmt, 1, ((Implementor<Object,Object>)implementors.get(field.getType())).write(field.get(row)));
-                    else setter.get().set(stmt, 1, field.get(row));
-                }
-                setField(row, row.getPrimaryField(), stmt, 2);
-                return stmt;
-            }).start();
-
+            Object value = getFieldValue(row, field);
+            Object columnValue = writeColumnValue(field, value);
+            UniqueKeyCache cache = uniqueCaches.get(field.getName());
+            if (cache != null) cache.evict(key);
+            overlay.updated(key, field.getName(), value);
+            submitUpdate(key, "UPDATE " + name + " SET " + field.getName() + "=? WHERE " + primaryKey.getName() + "= ?;",
+                    Arrays.asList(getColumnSetter(value), getColumnSetter(key)), columnValue, keyValue);
         }
     }
 
@@ -181,6 +501,40 @@ public class Table<T extends TableRow<T>> {
         return hasImplementor(o) ? getImplementor(o).write(o) : o;
     }
 
+    /**
+     * Converts the value of a field into the value its column stores.
+     *
+     * @param field Field the value is from.
+     * @param value Value of the field.
+     * @return A {@link String} for {@link UUID}s, enums and {@link TableRowTypeAdapter}s, result of the
+     * {@link Implementor} for types that have one, or the value itself.
+     * @throws NoSetterException if the type of the value can't be stored.
+     */
+    private Object writeColumnValue(Field field, Object value) {
+        if (value == null) return null;
+        if (findSetter(value.getClass()).isEmpty()) throw new NoSetterException(field);
+        if (value instanceof UUID || value instanceof Enum<?>) return value.toString();
+        if (value instanceof TableRowTypeAdapter adapter) return adapter.adapt();
+        return writeUsingImplementor(value);
+    }
+
+    /**
+     * Returns the setter a column value written by {@link #writeColumnValue(Field, Object)} is bound with, which is the
+     * setter of the {@link Implementor} of the value if it has one.
+     *
+     * @param value Value of the field, before it was written.
+     * @return Setter of the implementor, or {@code null} to bind the column value using the setter of its runtime type.
+     */
+    private SetterAction<Object> getColumnSetter(Object value) {
+        return value != null && hasImplementor(value) ? getImplementor(value).setter() : null;
+    }
+
+    private void bindColumnValue(PreparedStatement stmt, int index, Object value, Object columnValue) throws SQLException {
+        SetterAction<Object> setter = getColumnSetter(value);
+        if (setter != null && columnValue != null) setter.set(stmt, index, columnValue);
+        else UpdateAction.bindParameter(stmt, index, columnValue);
+    }
+
     @SuppressWarnings("unchecked")
     private Object readUsingImplementor(Object o, Class<?> claz) {
         Implementor<Object, Object> implementor = (Implementor<Object, Object>) implementors.get(claz);
@@ -201,20 +555,22 @@ public class Table<T extends TableRow<T>> {
             propertyChanger.accept(instance);
             instance.cleanWithoutUpdate();
 
-            new UpdateActionThread(database.getConnection(), createInsertionCode(), stmt -> {
-
-                Field[] fields = clazz.getDeclaredFields();
-                for (int i = 0; i < fields.length; i++) {
-                    Field field = fields[i];
-                    if (field.isAnnotationPresent(AutoIncrement.class)) continue;
-                    field.setAccessible(true);
-                    Object value = field.get(instance);
-                    Optional<SetterAction<Object>> setter = findSetter(value.getClass());
-                    if (setter.isEmpty()) throw new NoSetterException(field);
-                    setter.get().set(stmt, i + 1, writeUsingImplementor(value));
-                }
-                return stmt;
-            }).start();
+            Object key = getPrimaryKey(instance);
+            Map<String, Object> values = new HashMap<>();
+            List<Object> parameters = new ArrayList<>();
+            List<SetterAction<Object>> setters = new ArrayList<>();
+            for (Field field : clazz.getDeclaredFields()) {
+                Object value = getFieldValue(instance, field);
+                values.put(field.getName(), value);
+                if (field.isAnnotationPresent(AutoIncrement.class)) continue;
+                parameters.add(writeColumnValue(field, value));
+                setters.add(getColumnSetter(value));
+            }
+            // the database picks auto-incremented keys, so every pending row would share the default key here
+            if (primaryKey.isAnnotationPresent(AutoIncrement.class)) key = null;
+            else overlay.inserted(key, values);
+
+            submitUpdate(key, createInsertionCode(), setters, parameters.toArray());
 
             return instance;
         } catch (Exception e) {
@@ -251,23 +607,38 @@ public class Table<T extends TableRow<T>> {
      * @return An {@link Optional} that will have a {@link T} instance if the query was successfully executed and a row
      * was successfully found.
      * @throws IllegalStateException if {@code key} isn't the same type with {@link Primary} field of {@link T}.
-     * @apiNote Does not use threads to execute query, might be slower than expected.
+     * @apiNote Does not use threads to execute query, might be slower than expected. Inserts, updates and deletes that
+     * are not executed yet are taken into account, so a row is visible here right after {@link #insertRow(Consumer)},
+     * unless its primary key is {@link AutoIncrement} and the database hasn't picked it yet.
      */
     public Optional<T> getRow(Object key) {
         if (!primaryKey.getType().equals(key.getClass()))
             throw new IllegalStateException("Primary key of " + clazz.getName() + " is " + primaryKey.getType().getName() + ", not " + key.getClass().getName());
-        try (PreparedStatement stmt = database.getConnection().prepareStatement(generateQueryCode())) {
+        WriteOverlay.Pending pending = overlay.get(key);
+        if (pending != null && pending.deleted()) return Optional.empty();
+        Lock lock = database.getConnectionLock();
+        lock.lock();
+        try {
+            if (pending != null && pending.inserted()) return Optional.of(createFromValues(pending.values()));
             Optional<SetterAction<Object>> setter = findSetter(primaryKey.getType());
             if (setter.isEmpty()) throw new NoSetterException(primaryKey);
-            setter.get().set(stmt, 1, key);
-            ResultSet set = stmt.executeQuery();
+            String code = generateQueryCode();
+            PreparedStatement stmt = statements.get(database.getConnection(), code);
             T i = null;
-
-            while (set.next() && i == null) i = getFromRow(set);
-
+            synchronized (stmt) {
+                applyTimeout(stmt, 0);
+                setter.get().set(stmt, 1, key);
+                StatementTimer timer = new StatementTimer();
+                try (ResultSet set = stmt.executeQuery()) {
+                    while (set.next() && i == null) i = timer.hydrate(set);
+                }
+                timer.finish(Operation.GET_ROW, code, List.of(key));
+            }
+            if (i != null && pending != null) applyValues(i, pending.values());
 
             return Optional.ofNullable(i);
         } catch (SQLException e) {
+            database.statementFailed(name, Operation.GET_ROW, e);
             e.printStackTrace();
             return Optional.empty();
         } catch (NoSuchMethodException e) {
@@ -278,26 +649,300 @@ public class Table<T extends TableRow<T>> {
             throw new RuntimeException(e);
         } catch (IllegalAccessException ignored) {
             return Optional.empty();
+        } finally {
+            lock.unlock();
         }
     }
 
-    private T getFromRow(ResultSet set) throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException, SQLException {
-        T i;
-        Constructor<T> constructor = clazz.getConstructor(Class.class, Table.class);
-        constructor.setAccessible(true);
-        T instance = constructor.newInstance(clazz, this);
+    /**
+     * Searches for a row using the value of one of its {@link Unique} fields, reusing the same prepared statement for
+     * each search. If unique caching is enabled using {@link #setUniqueCacheSize(int)}, values found are remembered
+     * along with the primary key of their row, and later searches for the same value are answered by
+     * {@link #getRow(Object)} instead.
+     *
+     * @param fieldName Name of a {@link Unique} or {@link Primary} field.
+     * @param value     Value of the field to search for.
+     * @return Row that has the value if found, an empty {@link Optional} otherwise.
+     * @throws IllegalArgumentException if {@link T} does not have a field named {@code fieldName}, or the field is
+     *                                  neither unique nor primary.
+     * @apiNote Does not use threads to execute query, might be slower than expected. Inserts, updates and deletes that
+     * are not executed yet are taken into account, the same way {@link #getRow(Object)} does.
+     * @since 1.2
+     */
+    public Optional<T> getRowBy(String fieldName, Object value) {
+        Field field = getField(fieldName);
+        if (field.equals(primaryKey)) return getRow(value);
+        if (!field.isAnnotationPresent(Unique.class))
+            throw new IllegalArgumentException("Field " + fieldName + " of " + clazz.getName() + " is not unique");
+        UniqueKeyCache cache = getUniqueCache(field);
+        if (cache != null) {
+            Object key = cache.get(value);
+            CacheEvent.emit(CacheEvent.UNIQUE_KEY, name, null, key != null);
+            if (key != null) {
+                Optional<T> row = getRow(key);
+                if (row.isPresent() && Objects.equals(getFieldValue(row.get(), field), value)) return row;
+                cache.evict(key);
+            }
+        }
 
-        // get all columns from set and assign them to instance fields
-        for (Field field : clazz.getDeclaredFields()) {
-            field.setAccessible(true);
-            Optional<? extends GetterAction<?>> getterOptional = findGetter(field.getType());
-            if (getterOptional.isEmpty()) throw new NoGetterException(field);
-            Object o = getterOptional.get().get(set, field.getName());
-            field.set(instance, readUsingImplementor(o, field.getType()));
+        Lock lock = database.getConnectionLock();
+        lock.lock();
+        try {
+            for (WriteOverlay.Pending inserted : overlay.inserted().values())
+                if (Objects.equals(inserted.values().get(fieldName), value)) return Optional.of(createFromValues(inserted.values()));
+
+            String code = generateQueryCode(field);
+            PreparedStatement stmt = statements.get(database.getConnection(), code);
+            T row = null;
+            synchronized (stmt) {
+                applyTimeout(stmt, 0);
+                Object columnValue = writeColumnValue(field, value);
+                bindColumnValue(stmt, 1, value, columnValue);
+                StatementTimer timer = new StatementTimer();
+                try (ResultSet set = stmt.executeQuery()) {
+                    if (set.next()) row = timer.hydrate(set);
+                }
+                timer.finish(Operation.GET_ROW, code, Collections.singletonList(columnValue));
+            }
+            if (row == null) return Optional.empty();
+
+            Object key = getPrimaryKey(row);
+            WriteOverlay.Pending pending = overlay.get(key);
+            if (pending == null) {
+                if (cache != null) cache.put(value, key);
+                return Optional.of(row);
+            }
+            if (pending.deleted()) return Optional.empty();
+            applyValues(row, pending.values());
+            return Objects.equals(getFieldValue(row, field), value) ? Optional.of(row) : Optional.empty();
+        } catch (SQLException e) {
+            database.statementFailed(name, Operation.GET_ROW, e);
+            log.error("Could not query row by " + fieldName + " at table '" + name + "'", e);
+            return Optional.empty();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(clazz.getName() + " must have constructor " + clazz.getSimpleName() + "(Class,Table)");
+        } catch (InstantiationException e) {
+            throw new IllegalStateException(clazz.getName() + " cannot be instantiated because it is abstract");
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException(e);
+        } catch (IllegalAccessException ignored) {
+            return Optional.empty();
+        } finally {
+            lock.unlock();
         }
+    }
 
-        i = instance;
-        return i;
+    /**
+     * Changes the maximum amount of values {@link #getRowBy(String, Object)} remembers for each unique field. Values
+     * are forgotten once their row is deleted or the field is changed, and the least recently used values are
+     * forgotten when the cache is full.
+     *
+     * @param uniqueCacheSize Maximum amount of values to remember for each unique field. {@code 0} disables caching,
+     *                        which is the default.
+     * @throws IllegalArgumentException if {@code uniqueCacheSize} is negative.
+     * @since 1.2
+     */
+    public void setUniqueCacheSize(int uniqueCacheSize) {
+        if (uniqueCacheSize < 0) throw new IllegalArgumentException("Unique cache size can't be negative");
+        this.uniqueCacheSize = uniqueCacheSize;
+        uniqueCaches.clear();
+    }
+
+    /**
+     * Returns the maximum amount of values {@link #getRowBy(String, Object)} remembers for each unique field.
+     *
+     * @return Unique cache size. {@code 0} if caching is disabled.
+     * @since 1.2
+     */
+    public int getUniqueCacheSize() {
+        return uniqueCacheSize;
+    }
+
+    private UniqueKeyCache getUniqueCache(Field field) {
+        int size = uniqueCacheSize;
+        if (size == 0) return null;
+        return uniqueCaches.computeIfAbsent(field.getName(), unused -> new UniqueKeyCache(size));
+    }
+
+    /**
+     * Queries rows by their primary keys in bulk, using as few {@code SELECT ... WHERE key IN (...)} statements as the
+     * parameter limit of the database allows (see {@link Database#getMaxParameters()}). Keys must be the same type
+     * with the primary field of {@link T}, just like {@link #getRow(Object)}.
+     *
+     * @param keys Keys to search rows.
+     * @param <K>  Type of the keys.
+     * @return A map of the given keys to the rows found for them, in the order of {@code keys}. Keys without a row are
+     * not in the map. Empty if the query could not be executed.
+     * @throws IllegalStateException if a key isn't the same type with {@link Primary} field of {@link T}.
+     * @apiNote Does not use threads to execute query, might be slower than expected. Inserts, updates and deletes that
+     * are not executed yet are taken into account the same way {@link #getRow(Object)} does, and rows that are waiting
+     * to be inserted or deleted are not queried at all.
+     * @since 1.2
+     */
+    public <K> Map<K, T> getRows(Collection<K> keys) {
+        Map<K, T> rows = new LinkedHashMap<>();
+        Map<Object, K> remaining = new LinkedHashMap<>();
+        Map<Object, WriteOverlay.Pending> pendings = new HashMap<>();
+        Lock lock = database.getConnectionLock();
+        lock.lock();
+        try {
+            for (K key : keys) {
+                if (!primaryKey.getType().equals(key.getClass()))
+                    throw new IllegalStateException("Primary key of " + clazz.getName() + " is " + primaryKey.getType().getName() + ", not " + key.getClass().getName());
+                WriteOverlay.Pending pending = overlay.get(key);
+                if (pending != null && pending.deleted()) continue;
+                if (pending != null && pending.inserted()) rows.put(key, createFromValues(pending.values()));
+                else {
+                    remaining.put(key, key);
+                    if (pending != null) pendings.put(key, pending);
+                }
+            }
+            if (remaining.isEmpty()) return rows;
+
+            Optional<SetterAction<Object>> setter = findSetter(primaryKey.getType());
+            if (setter.isEmpty()) throw new NoSetterException(primaryKey);
+            List<K> lookup = new ArrayList<>(remaining.values());
+            int chunkSize = database.getMaxParameters();
+            Map<Object, T> found = new HashMap<>();
+            for (int start = 0; start < lookup.size(); start += chunkSize) {
+                List<K> chunk = lookup.subList(start, Math.min(lookup.size(), start + chunkSize));
+                String code = generateQueryCode(chunk.size());
+                try (PreparedStatement stmt = database.getConnection().prepareStatement(code)) {
+                    applyTimeout(stmt, 0);
+                    for (int i = 0; i < chunk.size(); i++) setter.get().set(stmt, i + 1, chunk.get(i));
+                    StatementTimer timer = new StatementTimer();
+                    try (ResultSet set = stmt.executeQuery()) {
+                        while (set.next()) {
+                            T row = timer.hydrate(set);
+                            found.put(getPrimaryKey(row), row);
+                        }
+                    }
+                    timer.finish(Operation.GET_ROW, code, new ArrayList<>(chunk));
+                }
+            }
+
+            Map<K, T> ordered = new LinkedHashMap<>();
+            for (K key : keys) {
+                T row = rows.get(key);
+                if (row == null && (row = found.get(key)) != null && pendings.containsKey(key))
+                    applyValues(row, pendings.get(key).values());
+                if (row != null) ordered.put(key, row);
+            }
+            return ordered;
+        } catch (SQLException e) {
+            database.statementFailed(name, Operation.GET_ROW, e);
+            log.error("Could not query rows by their keys at table '" + name + "'", e);
+            return new LinkedHashMap<>();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(clazz.getName() + " must have constructor " + clazz.getSimpleName() + "(Class,Table)");
+        } catch (InstantiationException e) {
+            throw new IllegalStateException(clazz.getName() + " cannot be instantiated because it is abstract");
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException(e);
+        } catch (IllegalAccessException ignored) {
+            return new LinkedHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a {@link RowReader} that loads every field of {@link T}. The reader is created once and shared by every
+     * statement that doesn't have a selection.
+     *
+     * @return A row reader for all fields.
+     * @throws NoSuchMethodException if {@link T} doesn't have a {@code (Class,Table)} constructor.
+     */
+    private RowReader getRowReader() throws NoSuchMethodException {
+        RowReader reader = rowReader;
+        if (reader == null) rowReader = reader = new RowReader(Arrays.asList(clazz.getDeclaredFields()));
+        return reader;
+    }
+
+    /**
+     * Reads rows of a result set into instances of {@link T}. The constructor, getters and implementors of the selected
+     * fields are looked up once when the reader is created, so a statement only has to do that once no matter how many
+     * rows it returns.
+     */
+    private final class RowReader {
+
+        private final Constructor<T> constructor;
+        private final Field[] fields;
+        private final boolean[] selected;
+        private final GetterAction<?>[] getters;
+        private final Implementor<?, ?>[] implementors;
+
+        RowReader(List<Field> selection) throws NoSuchMethodException {
+            this.constructor = clazz.getConstructor(Class.class, Table.class);
+            this.constructor.setAccessible(true);
+            this.fields = clazz.getDeclaredFields();
+            this.selected = new boolean[fields.length];
+            this.getters = new GetterAction<?>[fields.length];
+            this.implementors = new Implementor<?, ?>[fields.length];
+            Set<Field> selectedFields = new HashSet<>(selection);
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                if (!selectedFields.contains(field)) continue;
+                field.setAccessible(true);
+                Optional<? extends GetterAction<?>> getterOptional = findGetter(field.getType());
+                if (getterOptional.isEmpty()) throw new NoGetterException(field);
+                selected[i] = true;
+                getters[i] = getterOptional.get();
+                implementors[i] = Table.this.implementors.get(field.getType());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        T read(ResultSet set) throws InstantiationException, IllegalAccessException, InvocationTargetException, SQLException {
+            T instance = constructor.newInstance(clazz, Table.this);
+
+            // get selected columns from set and assign them to instance fields, marking the rest unloaded
+            for (int i = 0; i < fields.length; i++) {
+                if (!selected[i]) {
+                    instance.markUnloaded(fields[i].getName());
+                    continue;
+                }
+                Object o = getters[i].get(set, fields[i].getName());
+                Implementor<Object, Object> implementor = (Implementor<Object, Object>) implementors[i];
+                fields[i].set(instance, implementor != null ? implementor.read(o) : o);
+            }
+            return instance;
+        }
+
+    }
+
+    /**
+     * Returns the fields a query should load: every field if the query has no selection, the selected fields, the sort
+     * fields and the primary key otherwise.
+     *
+     * @param query A query.
+     * @return Fields to load.
+     * @throws IllegalArgumentException if the selection of the query has a field {@link T} doesn't have.
+     */
+    private List<Field> getSelectedFields(Query query) {
+        if (query.getSelection().isEmpty()) return Arrays.asList(clazz.getDeclaredFields());
+        List<Field> fields = new ArrayList<>();
+        fields.add(primaryKey);
+        for (String fieldName : query.getSelection()) {
+            Field field = getField(fieldName);
+            if (!fields.contains(field)) fields.add(field);
+        }
+        // sort values are needed to create cursors
+        for (Sort sort : query.getSorts()) {
+            Field field = getField(sort.fieldName());
+            if (!fields.contains(field)) fields.add(field);
+        }
+        return fields;
+    }
+
+    private String generateQueryCode(int keyCount) {
+        StringBuilder builder = new StringBuilder("SELECT * FROM ").append(name).append(" WHERE ").append(primaryKey.getName()).append(" IN (");
+        for (int i = 0; i < keyCount; i++) builder.append(i == 0 ? "?" : ",?");
+        return builder.append(");").toString();
+    }
+
+    private String generateQueryCode(Field field) {
+        return "SELECT * FROM " + name + " WHERE " + field.getName() + " = ?;";
     }
 
     private String generateQueryCode() {
@@ -309,19 +954,6 @@ public class Table<T extends TableRow<T>> {
     }
 
 
-    void setField(T row, Field field, PreparedStatement stmt, int index) {
-        try {
-            Optional<SetterAction<Object>> setter = findSetter(field.getType());
-            if (setter.isEmpty()) throw new NoSetterException(field);
-            field.setAccessible(true);
-            setter.get().set(stmt, index, field.get(row));
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException("Literally what the fuck. How did this even happen. I literally made it accessible the line before. What the fuck do you mean illegal access?", e);
-        } catch (SQLException ignored) {
-        }
-    }
-
-
     Optional<SetterAction<Object>> findSetter(Class<?> c) {
         if (c == String.class) return Optional.of((stmt, index, value) -> stmt.setString(index, (String) value));
         if (c == UUID.class) return Optional.of((stmt, index, value) -> stmt.setString(index, value.toString()));
@@ -400,17 +1032,11 @@ public class Table<T extends TableRow<T>> {
      * @apiNote <strong>DO NOT USE.</strong> Use {@link TableRow#delete()} instead.
      */
     void delete(T row) {
-        Optional<SetterAction<Object>> setter = findSetter(primaryKey.getType());
-        if (setter.isEmpty()) throw new NoSetterException(primaryKey);
-
-        primaryKey.setAccessible(true);
-        new UpdateActionThread(database.getConnection(), "DELETE FROM " + name + " WHERE " + primaryKey.getName() + "= ?;", stmt -> {
-            try {
-                setter.get().set(stmt, 1, primaryKey.get(row));
-            } catch (Exception ignored) {
-            }
-            return stmt;
-        }).start();
+        Object key = getPrimaryKey(row);
+        Object keyValue = writeColumnValue(primaryKey, key);
+        for (UniqueKeyCache cache : uniqueCaches.values()) cache.evict(key);
+        overlay.deleted(key);
+        submitUpdate(key, "DELETE FROM " + name + " WHERE " + primaryKey.getName() + "= ?;", Collections.singletonList(getColumnSetter(key)), keyValue);
     }
 
     /**
@@ -419,14 +1045,68 @@ public class Table<T extends TableRow<T>> {
      *
      * @param query A {@link Query} to execute.
      * @return A {@link QueryResult} that contains either an error or a list of {@link T}s.
-     * @apiNote Does not use threads, might be slow.
+     * @apiNote Does not use threads, might be slow. Updates and deletes that are not executed yet are applied to the
+     * found rows, dropping the rows that no longer match the conditions. Inserts that are not executed yet are added
+     * when they match the conditions, unless the primary key is {@link AutoIncrement}, or the query has a limit, skip or cursor, or one of its conditions can't be
+     * evaluated outside the database (see {@link Condition#toMatcher(Condition.ColumnAccessor)}). The query is
+     * cancelled once it runs longer than its timeout (see {@link Query#setTimeout(int)}).
      */
     public QueryResult<T> query(Query query) {
-        try (PreparedStatement stmt = database.getConnection().prepareStatement(query.toSqlCode(name))) {
+        return query(query, query.getCursor() != null, null);
+    }
+
+    /**
+     * Executes a specific query on the table in the background, using the
+     * {@link Database#getPrefetchExecutor() prefetch executor} of the database. Cancelling the returned future cancels
+     * the statement if it is running, so a long query stops holding the connection right away, and keeps it from being
+     * executed if it hasn't started yet.
+     *
+     * @param query A {@link Query} to execute.
+     * @return A future completed with a {@link QueryResult} that contains either an error or a list of {@link T}s the
+     * same way {@link #query(Query)} does.
+     * @since 1.2
+     */
+    public CompletableFuture<QueryResult<T>> queryAsync(Query query) {
+        StatementHandle handle = new StatementHandle();
+        CompletableFuture<QueryResult<T>> future = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled) handle.cancel();
+                return cancelled;
+            }
+        };
+        database.getPrefetchExecutor().execute(() -> {
+            if (future.isDone()) return;
+            try {
+                future.complete(query(query, query.getCursor() != null, handle));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private QueryResult<T> query(Query query, boolean keyset, StatementHandle handle) {
+        List<Field> fields = getSelectedFields(query);
+        List<String> columns = fields.size() == clazz.getDeclaredFields().length ? List.of() : fields.stream().map(Field::getName).toList();
+        CompiledQuery compiled = query.compile(context, columns, keyset ? primaryKey.getName() : null);
+        Lock lock = database.getConnectionLock();
+        lock.lock();
+        try (PreparedStatement stmt = database.getConnection().prepareStatement(compiled.sql())) {
+            applyTimeout(stmt, query.getTimeout());
+            if (handle != null) handle.attach(stmt);
+            bindParameters(stmt, compiled.parameters());
+            if (keyset) bindCursor(stmt, query, compiled.parameters().size());
+            RowReader reader = columns.isEmpty() ? getRowReader() : new RowReader(fields);
+            if (handle != null) handle.checkCancelled();
+            StatementTimer timer = new StatementTimer();
             ResultSet set = stmt.executeQuery();
             ArrayList<T> ts = new ArrayList<>();
 
-            while (set.next()) ts.add(getFromRow(set));
+            while (set.next()) ts.add(timer.hydrate(set, reader));
+            timer.finish(Operation.QUERY, compiled.sql(), compiled.parameters());
+            if (!overlay.isEmpty()) applyOverlay(query, ts);
             return new QueryResult<>(null, ts);
         } catch (NoSuchMethodException e) {
             throw new IllegalStateException(clazz.getName() + " must have constructor " + clazz.getSimpleName() + "(Class,Table)");
@@ -435,10 +1115,560 @@ public class Table<T extends TableRow<T>> {
         } catch (InvocationTargetException e) {
             throw new RuntimeException(e);
         } catch (SQLException e) {
+            // a cancelled statement fails, but the connection is fine
+            if (handle == null || !handle.isCancelled()) database.statementFailed(name, Operation.QUERY, e);
+            return new QueryResult<>(e, null);
+        } catch (IllegalAccessException ignored) {
+            return new QueryResult<>(null, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Searches the {@link Searchable} fields of this table for the words of {@code text}, returning the best matches
+     * first. On SQLite, rows are found and ranked using the FTS5 index of the table. Other databases fall back to
+     * {@code LIKE} and return the matches in no particular order.
+     *
+     * @param text    Search text, made of words separated by whitespace. Words ending with {@code *} match any word
+     *                starting with them.
+     * @param limit   Maximum amount of rows to return.
+     * @param filters Other conditions the rows must match.
+     * @return A {@link QueryResult} that contains either an error or a list of {@link T}s, best matches first.
+     * @throws IllegalArgumentException if {@code limit} is not positive or {@code text} has no words.
+     * @throws IllegalStateException    if {@link T} has no {@link Searchable} fields.
+     * @apiNote Does not use threads, might be slow. Updates and deletes that are not executed yet are applied to the
+     * found rows, dropping the rows that no longer match, the same way {@link #query(Query)} does. Inserts that are not
+     * executed yet are not included.
+     * @see FullTextCondition
+     * @since 1.2
+     */
+    public QueryResult<T> search(String text, int limit, Condition... filters) {
+        if (limit <= 0) throw new IllegalArgumentException("Limit must be greater than 0");
+        if (searchableFields.isEmpty()) throw new IllegalStateException(clazz.getName() + " has no searchable fields");
+        FullTextCondition condition = new FullTextCondition(text, searchableFields.toArray(new String[0]));
+        Query query = new Query(new ArrayList<>(), new ArrayList<>(List.of(filters)));
+        query.addCondition(condition);
+        query.setLimit(limit);
+        Optional<String> fullTextTable = context.getFullTextTableName();
+        if (fullTextTable.isEmpty()) return query(query);
+
+        String fts = fullTextTable.get();
+        CompiledQuery where = Query.compileConditionBody(context, List.of(filters));
+        String code = "SELECT " + name + ".* FROM " + name + ", (SELECT " + context.getFullTextKeyColumn() + " AS fts_row_key, rank AS fts_rank FROM " + fts +
+                " WHERE " + fts + " MATCH ?) AS matches WHERE " + name + "." + primaryKey.getName() + " = matches.fts_row_key" +
+                (where.sql().isEmpty() ? "" : " AND " + where.sql()) + " ORDER BY matches.fts_rank LIMIT " + limit + ";";
+        Lock lock = database.getConnectionLock();
+        lock.lock();
+        try (PreparedStatement stmt = database.getConnection().prepareStatement(code)) {
+            applyTimeout(stmt, 0);
+            stmt.setString(1, condition.toMatchExpression());
+            for (int i = 0; i < where.parameters().size(); i++)
+                UpdateAction.bindParameter(stmt, i + 2, where.parameters().get(i));
+            StatementTimer timer = new StatementTimer();
+            List<T> rows = new ArrayList<>();
+            try (ResultSet set = stmt.executeQuery()) {
+                while (set.next()) rows.add(timer.hydrate(set));
+            }
+            List<Object> parameters = new ArrayList<>();
+            parameters.add(condition.toMatchExpression());
+            parameters.addAll(where.parameters());
+            timer.finish(Operation.QUERY, code, parameters);
+            if (!overlay.isEmpty()) applyOverlay(query, rows);
+            return new QueryResult<>(null, rows);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(clazz.getName() + " must have constructor " + clazz.getSimpleName() + "(Class,Table)");
+        } catch (InstantiationException e) {
+            throw new IllegalStateException(clazz.getName() + " cannot be instantiated because it is abstract");
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException(e);
+        } catch (SQLException e) {
+            database.statementFailed(name, Operation.QUERY, e);
             return new QueryResult<>(e, null);
         } catch (IllegalAccessException ignored) {
             return new QueryResult<>(null, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Counts the rows matching all given conditions using {@code COUNT(*)}, without loading any of them.
+     *
+     * @param conditions Conditions the rows must match. Counts every row if there are none.
+     * @return Amount of matching rows.
+     * @throws TableException if the database fails to compute the count.
+     * @apiNote Changes that are not executed yet are not included.
+     * @since 1.2
+     */
+    public long count(Condition... conditions) {
+        return aggregateScalar("SELECT COUNT(*) FROM " + name, conditions, ";", set -> set.getLong(1));
+    }
+
+    /**
+     * Checks whether there is at least one row matching all given conditions, stopping at the first one found.
+     *
+     * @param conditions Conditions the row must match.
+     * @return {@code true} if a matching row exists, {@code false} otherwise.
+     * @throws TableException if the database fails to run the check.
+     * @apiNote Changes that are not executed yet are not included.
+     * @since 1.2
+     */
+    public boolean exists(Condition... conditions) {
+        return aggregateScalar("SELECT EXISTS(SELECT 1 FROM " + name, conditions, ");", set -> set.getBoolean(1));
+    }
+
+    /**
+     * Calculates the sum of a numeric field over the rows matching all given conditions.
+     *
+     * @param fieldName  Name of the field to sum.
+     * @param conditions Conditions the rows must match.
+     * @return Sum of the field, or an empty {@link OptionalDouble} if there are no matching rows.
+     * @throws IllegalArgumentException if {@link T} does not have a field named {@code fieldName}.
+     * @throws TableException           if the database fails to compute the sum.
+     * @apiNote Changes that are not executed yet are not included.
+     * @since 1.2
+     */
+    public OptionalDouble sum(String fieldName, Condition... conditions) {
+        return aggregateDouble(Aggregate.SUM, fieldName, conditions);
+    }
+
+    /**
+     * Calculates the average of a numeric field over the rows matching all given conditions.
+     *
+     * @param fieldName  Name of the field to average.
+     * @param conditions Conditions the rows must match.
+     * @return Average of the field, or an empty {@link OptionalDouble} if there are no matching rows.
+     * @throws IllegalArgumentException if {@link T} does not have a field named {@code fieldName}.
+     * @throws TableException           if the database fails to compute the average.
+     * @apiNote Changes that are not executed yet are not included.
+     * @since 1.2
+     */
+    public OptionalDouble average(String fieldName, Condition... conditions) {
+        return aggregateDouble(Aggregate.AVERAGE, fieldName, conditions);
+    }
+
+    /**
+     * Finds the smallest value of a field over the rows matching all given conditions.
+     *
+     * @param fieldName  Name of the field.
+     * @param conditions Conditions the rows must match.
+     * @param <V>        Type of the field.
+     * @return Smallest value of the field, or an empty {@link Optional} if there are no matching rows.
+     * @throws IllegalArgumentException if {@link T} does not have a field named {@code fieldName}.
+     * @throws TableException           if the database fails to find the value.
+     * @apiNote Changes that are not executed yet are not included.
+     * @since 1.2
+     */
+    public <V> Optional<V> min(String fieldName, Condition... conditions) {
+        return aggregateValue(Aggregate.MIN, fieldName, conditions);
+    }
+
+    /**
+     * Finds the largest value of a field over the rows matching all given conditions.
+     *
+     * @param fieldName  Name of the field.
+     * @param conditions Conditions the rows must match.
+     * @param <V>        Type of the field.
+     * @return Largest value of the field, or an empty {@link Optional} if there are no matching rows.
+     * @throws IllegalArgumentException if {@link T} does not have a field named {@code fieldName}.
+     * @throws TableException           if the database fails to find the value.
+     * @apiNote Changes that are not executed yet are not included.
+     * @since 1.2
+     */
+    public <V> Optional<V> max(String fieldName, Condition... conditions) {
+        return aggregateValue(Aggregate.MAX, fieldName, conditions);
+    }
+
+    /**
+     * Counts the rows matching all given conditions for each distinct value of a field, using {@code GROUP BY}.
+     *
+     * @param groupFieldName Name of the field to group the rows by.
+     * @param conditions     Conditions the rows must match.
+     * @param <K>            Type of the group field.
+     * @return A map of each value of the group field to the amount of rows that have it.
+     * @throws IllegalArgumentException if {@link T} does not have a field named {@code groupFieldName}.
+     * @throws TableException           if the database fails to compute the counts.
+     * @apiNote Changes that are not executed yet are not included.
+     * @since 1.2
+     */
+    @SuppressWarnings("unchecked")
+    public <K> Map<K, Long> countBy(String groupFieldName, Condition... conditions) {
+        Field groupField = getField(groupFieldName);
+        return aggregateGroups(groupField, Aggregate.COUNT.toSqlCode(null), conditions, set -> {
+            Map<K, Long> map = new LinkedHashMap<>();
+            while (set.next()) map.put((K) readColumnValue(set, groupField), set.getLong("value"));
+            return map;
+        });
+    }
+
+    /**
+     * Computes an aggregate of a numeric field for each distinct value of another field, using {@code GROUP BY}.
+     *
+     * @param groupFieldName Name of the field to group the rows by.
+     * @param aggregate      Aggregate function to compute for each group.
+     * @param valueFieldName Name of the field to aggregate. Ignored for {@link Aggregate#COUNT}.
+     * @param conditions     Conditions the rows must match.
+     * @param <K>            Type of the group field.
+     * @return A map of each value of the group field to the aggregate of its rows. Groups the aggregate is
+     * {@code NULL} for are mapped to {@code null}.
+     * @throws IllegalArgumentException if {@link T} does not have one of the given fields.
+     * @throws TableException           if the database fails to compute the aggregates.
+     * @apiNote Changes that are not executed yet are not included.
+     * @since 1.2
+     */
+    @SuppressWarnings("unchecked")
+    public <K> Map<K, Double> groupBy(String groupFieldName, Aggregate aggregate, String valueFieldName, Condition... conditions) {
+        Field groupField = getField(groupFieldName);
+        String function = aggregate.toSqlCode(aggregate == Aggregate.COUNT ? null : getField(valueFieldName).getName());
+        return aggregateGroups(groupField, function, conditions, set -> {
+            Map<K, Double> map = new LinkedHashMap<>();
+            while (set.next()) {
+                double value = set.getDouble("value");
+                map.put((K) readColumnValue(set, groupField), set.wasNull() ? null : value);
+            }
+            return map;
+        });
+    }
+
+    private <R> R aggregateGroups(Field groupField, String function, Condition[] conditions, ResultReader<R> reader) {
+        String prefix = "SELECT " + groupField.getName() + ", " + function + " AS value FROM " + name;
+        return aggregate(prefix, conditions, " GROUP BY " + groupField.getName() + ";", reader);
+    }
+
+    private OptionalDouble aggregateDouble(Aggregate aggregate, String fieldName, Condition... conditions) {
+        String prefix = "SELECT " + aggregate.toSqlCode(getField(fieldName).getName()) + " FROM " + name;
+        return aggregateScalar(prefix, conditions, ";", set -> {
+            double value = set.getDouble(1);
+            return set.wasNull() ? OptionalDouble.empty() : OptionalDouble.of(value);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> Optional<V> aggregateValue(Aggregate aggregate, String fieldName, Condition... conditions) {
+        Field field = getField(fieldName);
+        String prefix = "SELECT " + aggregate.toSqlCode(field.getName()) + " AS " + field.getName() + " FROM " + name;
+        return aggregateScalar(prefix, conditions, ";", set -> Optional.ofNullable((V) readColumnValue(set, field)));
+    }
+
+    private <R> R aggregate(String prefix, Condition[] conditions, String suffix, ResultReader<R> reader) {
+        CompiledQuery where = Query.compileConditions(context, List.of(conditions));
+        String code = prefix + where.sql() + suffix;
+        Lock lock = database.getConnectionLock();
+        lock.lock();
+        try (PreparedStatement stmt = database.getConnection().prepareStatement(code)) {
+            applyTimeout(stmt, 0);
+            bindParameters(stmt, where.parameters());
+            StatementTimer timer = new StatementTimer();
+            R result = reader.read(stmt.executeQuery());
+            timer.finish(Operation.AGGREGATE, code, where.parameters());
+            return result;
+        } catch (SQLException e) {
+            database.statementFailed(name, Operation.AGGREGATE, e);
+            throw new TableException("Could not execute aggregate query: " + code, e);
+        } finally {
+            lock.unlock();
         }
     }
 
+    private <R> R aggregateScalar(String prefix, Condition[] conditions, String suffix, ResultReader<R> reader) {
+        // aggregates without GROUP BY always produce exactly one row
+        return aggregate(prefix, conditions, suffix, set -> {
+            set.next();
+            return reader.read(set);
+        });
+    }
+
+    private Object readColumnValue(ResultSet set, Field field) throws SQLException {
+        if (set.getObject(field.getName()) == null) return null;
+        Optional<? extends GetterAction<?>> getterOptional = findGetter(field.getType());
+        if (getterOptional.isEmpty()) throw new NoGetterException(field);
+        return readUsingImplementor(getterOptional.get().get(set, field.getName()), field.getType());
+    }
+
+    /**
+     * Iterates over the results of a query page by page, paginating by keys: every page is loaded using the sort values
+     * and the primary key of the last row of the previous page, as in {@code WHERE (sort, key) > (?, ?) ORDER BY sort,
+     * key LIMIT n}. Unlike {@link Query#setSkip(int)}, pages deep into the table are as fast as the first one when
+     * the sort fields are indexed.
+     *
+     * @param query    A {@link Query} to paginate. Its limit and skip are ignored, and its cursor, if any, is where the
+     *                 first page starts from. Sort fields should not have {@code null} values.
+     * @param pageSize Maximum amount of rows in a page.
+     * @return An iterator of pages, which loads the next page on {@link Database#getPrefetchExecutor()} while the
+     * current one is processed.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     * @apiNote Pages are loaded the same way {@link #query(Query)} loads rows, and an iterator throws
+     * {@link TableException} if a page can't be loaded.
+     * @since 1.2
+     */
+    public PageIterator<T> pages(Query query, int pageSize) {
+        return pages(query, pageSize, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Iterates over the results of a query page by page, paginating by keys just like {@link #pages(Query, int)}, with
+     * control over how many pages are loaded ahead on {@link Database#getPrefetchExecutor()}.
+     *
+     * @param query           A {@link Query} to paginate. Its limit and skip are ignored, and its cursor, if any, is
+     *                        where the first page starts from. Sort fields should not have {@code null} values.
+     * @param pageSize        Maximum amount of rows in a page.
+     * @param prefetchDepth   Maximum amount of pages to load ahead of the one being processed. {@code 0} loads every
+     *                        page when it is requested.
+     * @param maxBufferedRows Maximum amount of rows in memory at once, counting the page being processed and the pages
+     *                        loaded ahead of it, which caps the memory used by prefetching. Pages that don't fit are
+     *                        not loaded ahead.
+     * @return An iterator of pages. Should be closed if it is abandoned before reaching the last page.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive, or {@code prefetchDepth} or
+     *                                  {@code maxBufferedRows} is negative.
+     * @apiNote Pages are loaded the same way {@link #query(Query)} loads rows, and an iterator throws
+     * {@link TableException} if a page can't be loaded.
+     * @since 1.2
+     */
+    public PageIterator<T> pages(Query query, int pageSize, int prefetchDepth, int maxBufferedRows) {
+        if (pageSize <= 0) throw new IllegalArgumentException("Page size must be greater than 0");
+        if (prefetchDepth < 0) throw new IllegalArgumentException("Prefetch depth can't be negative");
+        if (maxBufferedRows < 0) throw new IllegalArgumentException("Maximum buffered rows can't be negative");
+        List<Field> sortFields = query.getSorts().stream().map(sort -> getField(sort.fieldName())).toList();
+        return new PageIterator<>(new PageIterator.PageLoader<T>() {
+            @Override
+            public List<T> load(Cursor after) {
+                Query page = new Query(new ArrayList<>(query.getSorts()), new ArrayList<>(query.getConditions()));
+                page.setSelection(query.getSelection());
+                page.setLimit(pageSize);
+                page.setCursor(after);
+                QueryResult<T> result = query(page, true, null);
+                if (result.hasException()) throw new TableException("Could not load page of table '" + name + "'", result.exception());
+                return result.hasResult() ? result.result() : List.of();
+            }
+
+            @Override
+            public Cursor cursorOf(T row) {
+                List<Object> values = new ArrayList<>();
+                for (Field field : sortFields) values.add(getFieldValue(row, field));
+                return new Cursor(Collections.unmodifiableList(values), getPrimaryKey(row));
+            }
+        }, pageSize, query.getCursor(), database.getPrefetchExecutor(), prefetchDepth, maxBufferedRows);
+    }
+
+    private void bindParameters(PreparedStatement stmt, List<Object> parameters) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) UpdateAction.bindParameter(stmt, i + 1, parameters.get(i));
+    }
+
+    private void bindCursor(PreparedStatement stmt, Query query, int offset) throws SQLException {
+        Cursor cursor = query.getCursor();
+        if (cursor == null) return;
+        List<Field> keyFields = new ArrayList<>();
+        for (Sort sort : query.getSorts()) keyFields.add(getField(sort.fieldName()));
+        keyFields.add(primaryKey);
+        List<Integer> order = query.getCursorParameterOrder();
+        for (int i = 0; i < order.size(); i++) {
+            int index = order.get(i);
+            Object value = cursor.get(index);
+            bindColumnValue(stmt, offset + i + 1, value, writeColumnValue(keyFields.get(index), value));
+        }
+    }
+
+    private void applyTimeout(Statement stmt, int timeout) throws SQLException {
+        stmt.setQueryTimeout(timeout != 0 ? timeout : database.getDefaultQueryTimeout());
+    }
+
+    private void applyOverlay(Query query, List<T> rows) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        Predicate<T> predicate;
+        try {
+            predicate = toPredicate(query.getConditions().toArray(new Condition[0]));
+        } catch (UnsupportedOperationException e) {
+            predicate = null;
+        }
+
+        Set<Object> keys = new HashSet<>();
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            Object key = getPrimaryKey(row);
+            keys.add(key);
+            WriteOverlay.Pending pending = overlay.get(key);
+            if (pending == null) continue;
+            if (pending.deleted()) iterator.remove();
+            else {
+                applyValues(row, pending.values());
+                if (predicate != null && !predicate.test(row)) iterator.remove();
+            }
+        }
+
+        if (predicate == null || query.getLimit() != 0 || query.getSkip() != 0 || query.getCursor() != null) return;
+        for (Map.Entry<Object, WriteOverlay.Pending> entry : overlay.inserted().entrySet()) {
+            if (keys.contains(entry.getKey())) continue;
+            T row = createFromValues(entry.getValue().values());
+            if (predicate.test(row)) rows.add(row);
+        }
+        if (!query.getSorts().isEmpty()) rows.sort(createComparator(query.getSorts()));
+    }
+
+    /**
+     * Returns the accessors of the columns of this table, which read the values fields of {@link T} store in the
+     * database. Used to evaluate conditions against rows in memory (see
+     * {@link Condition#toPredicate(Condition.ColumnAccessor)}).
+     *
+     * @return Column accessors of this table.
+     * @since 1.2
+     */
+    public Condition.ColumnAccessor<T> getColumnAccessor() {
+        return columns;
+    }
+
+    /**
+     * Compiles the given conditions into a {@link Predicate} that accepts the rows a {@link Query} with the same
+     * conditions would return, without running anything on the database.
+     *
+     * @param conditions Conditions the rows must match. Accepts every row if there are none.
+     * @return A predicate matching all conditions.
+     * @throws UnsupportedOperationException if one of the conditions can't be evaluated outside the database.
+     * @throws IllegalArgumentException      if a condition is on a field {@link T} doesn't have.
+     * @since 1.2
+     */
+    public Predicate<T> toPredicate(Condition... conditions) {
+        return new AllOfCondition(conditions).normalize().toPredicate(columns);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<T> createComparator(List<Sort> sorts) {
+        Comparator<T> comparator = (a, b) -> 0;
+        for (Sort sort : sorts) {
+            Field field = getField(sort.fieldName());
+            Comparator<T> next = Comparator.comparing(row -> (Comparable) getFieldValue(row, field), Comparator.nullsFirst(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(sort.ascending() ? next : next.reversed());
+        }
+        return comparator;
+    }
+
+    private T createFromValues(Map<String, Object> values) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        Constructor<T> constructor = clazz.getConstructor(Class.class, Table.class);
+        constructor.setAccessible(true);
+        T instance = constructor.newInstance(clazz, this);
+        applyValues(instance, values);
+        return instance;
+    }
+
+    private void applyValues(T row, Map<String, Object> values) throws IllegalAccessException {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Field field = getField(entry.getKey());
+            field.setAccessible(true);
+            field.set(row, entry.getValue());
+            row.markLoaded(entry.getKey());
+        }
+    }
+
+    private Field getField(String fieldName) {
+        try {
+            return clazz.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException(clazz.getName() + " does not have a field named " + fieldName, e);
+        }
+    }
+
+    private Field findField(String fieldName) {
+        try {
+            return clazz.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private Object getPrimaryKey(T row) {
+        return getFieldValue(row, primaryKey);
+    }
+
+    private Object getFieldValue(T row, Field field) {
+        try {
+            field.setAccessible(true);
+            return field.get(row);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not access field " + field, e);
+        }
+    }
+
+    /**
+     * Measures a statement that reads rows, keeping the time spent creating objects from rows apart from the time spent
+     * in JDBC, and emits its flight recorder events. Created right before the statement is executed.
+     */
+    private final class StatementTimer {
+
+        private final long start = System.nanoTime();
+        private final StatementEvent event = new StatementEvent();
+        private final HydrationEvent hydration = new HydrationEvent();
+        private long hydrationNanos;
+        private int rows;
+
+        StatementTimer() {
+            event.begin();
+        }
+
+        T hydrate(ResultSet set) throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException, SQLException {
+            return hydrate(set, getRowReader());
+        }
+
+        T hydrate(ResultSet set, RowReader reader) throws InstantiationException, IllegalAccessException, InvocationTargetException, SQLException {
+            if (rows == 0) hydration.begin();
+            long hydrationStart = System.nanoTime();
+            T row = reader.read(set);
+            hydrationNanos += System.nanoTime() - hydrationStart;
+            hydration.end();
+            rows++;
+            return row;
+        }
+
+        void finish(Operation operation, String sql, List<Object> parameters) {
+            long total = System.nanoTime() - start;
+            event.emit(name, sql, 1, rows, false);
+            if (rows > 0) hydration.emit(name, sql, rows, hydrationNanos);
+            database.statementExecuted(name, operation, sql, parameters, 1, rows, total - hydrationNanos, hydrationNanos);
+        }
+
+    }
+
+    /**
+     * Holds the statement an asynchronous query is executing, so it can be cancelled from another thread. Most drivers
+     * ignore {@link Statement#cancel()} on a statement that isn't executing yet, so a query checks the handle with
+     * {@link #checkCancelled()} right before executing its statement too.
+     */
+    private static final class StatementHandle {
+
+        private volatile Statement statement;
+        private volatile boolean cancelled;
+
+        void attach(Statement statement) {
+            this.statement = statement;
+            checkCancelled();
+        }
+
+        void checkCancelled() {
+            if (cancelled) throw new CancellationException("Query was cancelled before it was executed");
+        }
+
+        void cancel() {
+            cancelled = true;
+            Statement current = statement;
+            if (current == null) return;
+            try {
+                current.cancel();
+            } catch (SQLException e) {
+                log.warn("Could not cancel a running query.", e);
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+    }
+
+    private record IndexDefinition(String name, List<String> columns, boolean unique, String where) {
+    }
+
+    @FunctionalInterface
+    private interface ResultReader<R> {
+        R read(ResultSet set) throws SQLException;
+    }
+
 }
@@ -29,7 +29,9 @@ import dev.efekos.simple_ql.exception.NoPrimaryKeyException;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents a row of a {@link Table} that has the same {@code T} type with {@link T}. Used to change the values of a
@@ -41,6 +43,7 @@ public abstract class TableRow<T extends TableRow<T>> {
 
     private final Class<T> clazz;
     private final List<String> dirtyFields = new ArrayList<>();
+    private final Set<String> unloadedFields = new HashSet<>();
     private final Table<T> parentTable;
     private boolean deleted;
 
@@ -82,11 +85,31 @@ public abstract class TableRow<T extends TableRow<T>> {
     }
 
     /**
-     * Marks all fields of this row dirty, so calling {@link #clean()} will sync all of them with the database no matter
-     * if they actually changed or not.
+     * Returns whether the field with the given name was loaded from the database. Fields are only left unloaded when
+     * this row comes from a {@link dev.efekos.simple_ql.query.Query} that selects some of the fields, and an unloaded
+     * field becomes loaded once it is set.
+     * @param fieldName Name of the field/column.
+     * @return Whether the field has its value from the database.
+     * @since 1.2
+     */
+    public boolean isLoaded(String fieldName) {
+        return !unloadedFields.contains(fieldName);
+    }
+
+    void markUnloaded(String fieldName) {
+        unloadedFields.add(fieldName);
+    }
+
+    void markLoaded(String fieldName) {
+        unloadedFields.remove(fieldName);
+    }
+
+    /**
+     * Marks all loaded fields of this row dirty, so calling {@link #clean()} will sync all of them with the database no
+     * matter if they actually changed or not. Unloaded fields are skipped so their values in the database are kept.
      */
     public void markDirty() {
-        for (Field field : clazz.getDeclaredFields()) markDirty(field.getName());
+        for (Field field : clazz.getDeclaredFields()) if (isLoaded(field.getName())) markDirty(field.getName());
     }
 
     /**
@@ -95,6 +118,7 @@ public abstract class TableRow<T extends TableRow<T>> {
      */
     protected void markDirty(String name) {
         dirtyFields.add(name);
+        unloadedFields.remove(name);
     }
 
     /**
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.data;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of the values of a unique field to the primary keys of their rows, evicting the least recently used
+ * value once full. Keeps a reverse map so entries of a row can be evicted when its unique value changes or it is
+ * deleted.
+ */
+final class UniqueKeyCache {
+
+    private final Map<Object, Object> keys;
+    private final Map<Object, Object> values = new HashMap<>();
+
+    UniqueKeyCache(int maxSize) {
+        this.keys = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                if (size() <= maxSize) return false;
+                values.remove(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    synchronized Object get(Object value) {
+        return keys.get(value);
+    }
+
+    synchronized void put(Object value, Object key) {
+        evict(key);
+        Object previous = keys.put(value, key);
+        if (previous != null) values.remove(previous);
+        values.put(key, value);
+    }
+
+    synchronized void evict(Object key) {
+        if (values.containsKey(key)) keys.remove(values.remove(key));
+    }
+
+    synchronized void clear() {
+        keys.clear();
+        values.clear();
+    }
+
+}
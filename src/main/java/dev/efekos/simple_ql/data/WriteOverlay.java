@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.data;
+
+import java.util.*;
+
+/**
+ * Keeps track of the rows of a {@link Table} that have statements waiting to be executed, keyed by their primary keys.
+ * {@link Table#getRow(Object)} and {@link Table#query(dev.efekos.simple_ql.query.Query)} use it to see inserts,
+ * updates and deletes before they reach the database, so callers can read their own writes without waiting for them.
+ *
+ * @since 1.2
+ */
+final class WriteOverlay {
+
+    private final Map<Object, Entry> entries = new HashMap<>();
+
+    /**
+     * Records an insertion that is waiting to be executed.
+     *
+     * @param key    Primary key of the inserted row.
+     * @param values Values of every field of the inserted row.
+     */
+    synchronized void inserted(Object key, Map<String, Object> values) {
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        entry.inserted = true;
+        entry.deleted = false;
+        entry.values.clear();
+        entry.values.putAll(values);
+        entry.pending++;
+    }
+
+    /**
+     * Records an update of one field that is waiting to be executed.
+     *
+     * @param key       Primary key of the updated row.
+     * @param fieldName Name of the updated field/column.
+     * @param value     New value of the field.
+     */
+    synchronized void updated(Object key, String fieldName, Object value) {
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        entry.values.put(fieldName, value);
+        entry.pending++;
+    }
+
+    /**
+     * Records a deletion that is waiting to be executed.
+     *
+     * @param key Primary key of the deleted row.
+     */
+    synchronized void deleted(Object key) {
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        entry.inserted = false;
+        entry.deleted = true;
+        entry.values.clear();
+        entry.pending++;
+    }
+
+    /**
+     * Records that one of the statements of a row is done executing, whether it succeeded or not. The row is forgotten
+     * once all of its statements are done, since the database is the source of truth from then on.
+     *
+     * @param key Primary key of the row.
+     */
+    synchronized void flushed(Object key) {
+        Entry entry = entries.get(key);
+        if (entry != null && --entry.pending <= 0) entries.remove(key);
+    }
+
+    /**
+     * Returns whether there are no statements waiting at all, which lets readers skip the overlay entirely.
+     *
+     * @return Whether this overlay is empty.
+     */
+    synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the pending state of a row.
+     *
+     * @param key Primary key of the row.
+     * @return A snapshot of the pending state of the row, or {@code null} if the row has no statements waiting.
+     */
+    synchronized Pending get(Object key) {
+        Entry entry = entries.get(key);
+        return entry == null ? null : entry.snapshot();
+    }
+
+    /**
+     * Returns every row that is waiting to be inserted.
+     *
+     * @return A map of primary keys to the pending state of inserted rows.
+     */
+    synchronized Map<Object, Pending> inserted() {
+        Map<Object, Pending> map = new LinkedHashMap<>();
+        entries.forEach((key, entry) -> {
+            if (entry.inserted) map.put(key, entry.snapshot());
+        });
+        return map;
+    }
+
+    /**
+     * A snapshot of the pending state of a row.
+     *
+     * @param inserted Whether the row is waiting to be inserted, which means {@link #values} has every field of it.
+     * @param deleted  Whether the row is waiting to be deleted.
+     * @param values   Values of the fields that are waiting to be written.
+     */
+    record Pending(boolean inserted, boolean deleted, Map<String, Object> values) {
+    }
+
+    private static final class Entry {
+
+        private final Map<String, Object> values = new HashMap<>();
+        private boolean inserted;
+        private boolean deleted;
+        private int pending;
+
+        private Pending snapshot() {
+            return new Pending(inserted, deleted, Collections.unmodifiableMap(new HashMap<>(values)));
+        }
+
+    }
+
+}
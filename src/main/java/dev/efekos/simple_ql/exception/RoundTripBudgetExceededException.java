@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.exception;
+
+import dev.efekos.simple_ql.metrics.StatementCounts;
+
+/**
+ * An exception thrown by {@link dev.efekos.simple_ql.metrics.RoundTripBudget#check} when an action makes more JDBC
+ * calls than its budget allows.
+ *
+ * @since 1.2
+ */
+public class RoundTripBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+    private final StatementCounts counts;
+
+    /**
+     * Constructs a new exception with the specified detail message.
+     * The cause is not initialized, and may subsequently be initialized by a
+     * call to {@link #initCause}.
+     *
+     * @param message the detail message. The detail message is saved for
+     *                later retrieval by the {@link #getMessage()} method.
+     * @param counts  What the action was counted to do.
+     */
+    public RoundTripBudgetExceededException(String message, StatementCounts counts) {
+        super(message);
+        this.counts = counts;
+    }
+
+    /**
+     * Returns what the action that exceeded its budget was counted to do.
+     *
+     * @return Counts of the action.
+     */
+    public StatementCounts getCounts() {
+        return counts;
+    }
+
+}
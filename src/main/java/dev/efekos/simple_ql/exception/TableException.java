@@ -43,4 +43,17 @@ public class TableException extends RuntimeException {
         super(message);
     }
 
+    /**
+     * Constructs a new exception with the specified detail message and cause.
+     *
+     * @param message the detail message. The detail message is saved for
+     *                later retrieval by the {@link #getMessage()} method.
+     * @param cause   the cause, which is saved for later retrieval by the
+     *                {@link #getCause()} method.
+     * @since 1.2
+     */
+    public TableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
 }
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted on every lookup of the caches SimpleQL keeps: {@code statement} for prepared statements of a table,
+ * {@code uniqueKey} for primary keys of unique columns, and {@code template} for SQL templates of queries. Disabled by
+ * default, as these lookups happen far more often than statements.
+ *
+ * @since 1.2
+ */
+@Name("dev.efekos.simple_ql.CacheLookup")
+@Label("Cache Lookup")
+@Category("SimpleQL")
+@Description("A lookup in one of the caches of SimpleQL")
+@Enabled(false)
+@StackTrace(false)
+public final class CacheEvent extends jdk.jfr.Event {
+
+    /**
+     * Name of the prepared statement cache.
+     */
+    public static final String STATEMENT = "statement";
+    /**
+     * Name of the unique key cache.
+     */
+    public static final String UNIQUE_KEY = "uniqueKey";
+    /**
+     * Name of the query template cache.
+     */
+    public static final String TEMPLATE = "template";
+
+    @Label("Cache")
+    private String cache;
+
+    @Label("Table")
+    private String table;
+
+    @Label("SQL")
+    @Description("SQL template that was looked up, if the cache holds statements or templates")
+    private String sql;
+
+    @Label("Hit")
+    private boolean hit;
+
+    /**
+     * Commits a new event if it is enabled.
+     *
+     * @param cache Name of the cache, one of {@link #STATEMENT}, {@link #UNIQUE_KEY} or {@link #TEMPLATE}.
+     * @param table Name of the table the lookup was for.
+     * @param sql   SQL template that was looked up, or {@code null}.
+     * @param hit   Whether the cache had the value.
+     */
+    public static void emit(String cache, String table, String sql, boolean hit) {
+        CacheEvent event = new CacheEvent();
+        if (!event.isEnabled()) return;
+        event.cache = cache;
+        event.table = table;
+        event.sql = sql;
+        event.hit = hit;
+        event.commit();
+    }
+
+}
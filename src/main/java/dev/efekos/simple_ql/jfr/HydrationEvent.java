@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Emitted once for every statement that creates objects from the rows it read. The duration of the event spans from
+ * the first row to the last one, and {@code hydrationTime} is the part of it spent creating objects rather than
+ * fetching rows from the driver.
+ *
+ * @since 1.2
+ */
+@Name("dev.efekos.simple_ql.Hydration")
+@Label("Row Hydration")
+@Category("SimpleQL")
+@Description("A batch of rows turned into objects")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class HydrationEvent extends jdk.jfr.Event {
+
+    @Label("Table")
+    private String table;
+
+    @Label("SQL")
+    @Description("SQL template of the statement the rows were read with")
+    private String sql;
+
+    @Label("Rows")
+    private int rows;
+
+    @Label("Hydration Time")
+    @Timespan
+    private long hydrationTime;
+
+    /**
+     * Ends the event and commits it if it is enabled and took longer than its threshold.
+     *
+     * @param table         Name of the table the rows belong to.
+     * @param sql           SQL template of the statement the rows were read with.
+     * @param rows          Amount of hydrated rows.
+     * @param hydrationTime Time spent creating objects from the rows, in nanoseconds.
+     */
+    public void emit(String table, String sql, int rows, long hydrationTime) {
+        if (!shouldCommit()) return;
+        this.table = table;
+        this.sql = sql;
+        this.rows = rows;
+        this.hydrationTime = hydrationTime;
+        commit();
+    }
+
+}
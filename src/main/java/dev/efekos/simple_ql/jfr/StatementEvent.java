@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted for statements SimpleQL executes on a table, reads and writes of the write queue alike. The duration of
+ * the event covers executing the statement and reading its rows. Writes executed as a JDBC batch are one event.
+ *
+ * @since 1.2
+ */
+@Name("dev.efekos.simple_ql.Statement")
+@Label("Statement")
+@Category("SimpleQL")
+@Description("A statement executed on a table")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class StatementEvent extends jdk.jfr.Event {
+
+    @Label("Table")
+    private String table;
+
+    @Label("SQL")
+    @Description("SQL template of the statement, without the values of its parameters")
+    private String sql;
+
+    @Label("Executions")
+    @Description("Amount of times the statement was executed, which is more than 1 for JDBC batches")
+    private int executions;
+
+    @Label("Rows")
+    @Description("Amount of rows the statement read or changed")
+    private int rows;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Ends the event and commits it if it is enabled and took longer than its threshold.
+     *
+     * @param table      Name of the table the statement was executed on.
+     * @param sql        SQL template of the statement.
+     * @param executions Amount of times the statement was executed.
+     * @param rows       Amount of rows the statement read or changed.
+     * @param failed     Whether the statement failed.
+     */
+    public void emit(String table, String sql, int executions, int rows, boolean failed) {
+        end();
+        emitEnded(table, sql, executions, rows, failed);
+    }
+
+    /**
+     * Commits the event if it is enabled and took longer than its threshold, keeping the time it was ended at. Used for
+     * statements whose outcome is only known some time after they are executed, such as the statements of a
+     * transaction that is yet to be committed.
+     *
+     * @param table      Name of the table the statement was executed on.
+     * @param sql        SQL template of the statement.
+     * @param executions Amount of times the statement was executed.
+     * @param rows       Amount of rows the statement read or changed.
+     * @param failed     Whether the statement failed.
+     */
+    public void emitEnded(String table, String sql, int executions, int rows, boolean failed) {
+        if (!shouldCommit()) return;
+        this.table = table;
+        this.sql = sql;
+        this.executions = executions;
+        this.rows = rows;
+        this.failed = failed;
+        commit();
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Emitted when the thread of the write queue takes a batch of actions to execute. The duration of the event is the
+ * time the thread waited for the batch to fill up.
+ *
+ * @since 1.2
+ */
+@Name("dev.efekos.simple_ql.WriteDequeue")
+@Label("Write Dequeue")
+@Category("SimpleQL")
+@Description("A batch of actions taken from the write queue")
+@StackTrace(false)
+public final class WriteDequeueEvent extends jdk.jfr.Event {
+
+    @Label("Batch Size")
+    private int batchSize;
+
+    @Label("Queue Depth")
+    @Description("Amount of actions left in memory after the batch was taken")
+    private int queueDepth;
+
+    @Label("Oldest Action Age")
+    @Description("Time the oldest action of the batch spent in the queue")
+    @Timespan
+    private long oldestAge;
+
+    /**
+     * Ends the event and commits it if it is enabled and took longer than its threshold.
+     *
+     * @param batchSize  Amount of actions taken.
+     * @param queueDepth Amount of actions left in memory.
+     * @param oldestAge  Time the oldest action of the batch spent in the queue, in nanoseconds.
+     */
+    public void emit(int batchSize, int queueDepth, long oldestAge) {
+        end();
+        if (!shouldCommit()) return;
+        this.batchSize = batchSize;
+        this.queueDepth = queueDepth;
+        this.oldestAge = oldestAge;
+        commit();
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted when an action is added to the write queue. The duration of the event is the time the submitting thread
+ * waited for room in the queue, so only actions that were held back by a full queue pass the default threshold.
+ *
+ * @since 1.2
+ */
+@Name("dev.efekos.simple_ql.WriteEnqueue")
+@Label("Write Enqueue")
+@Category("SimpleQL")
+@Description("An action added to the write queue")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class WriteEnqueueEvent extends jdk.jfr.Event {
+
+    @Label("Table")
+    private String table;
+
+    @Label("SQL")
+    private String sql;
+
+    @Label("Queue Depth")
+    @Description("Amount of actions in memory after this one was added")
+    private int queueDepth;
+
+    @Label("Spilled")
+    @Description("Whether the action was spilled to disk")
+    private boolean spilled;
+
+    /**
+     * Ends the event and commits it if it is enabled and took longer than its threshold.
+     *
+     * @param table      Name of the table the action belongs to.
+     * @param sql        SQL template of the action.
+     * @param queueDepth Amount of actions in memory after the action was added.
+     * @param spilled    Whether the action was spilled to disk.
+     */
+    public void emit(String table, String sql, int queueDepth, boolean spilled) {
+        end();
+        if (!shouldCommit()) return;
+        this.table = table;
+        this.sql = sql;
+        this.queueDepth = queueDepth;
+        this.spilled = spilled;
+        commit();
+    }
+
+}
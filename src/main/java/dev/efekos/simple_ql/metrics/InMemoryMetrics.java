@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.metrics;
+
+import dev.efekos.simple_ql.data.Operation;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link Metrics} kept in memory, so they can be read by a monitoring system or printed. Every table and operation
+ * gets its own {@link OperationStats} the first time it is recorded, which are never reset.
+ *
+ * @since 1.2
+ */
+public class InMemoryMetrics implements Metrics {
+
+    private final ConcurrentMap<String, ConcurrentMap<Operation, OperationStats>> stats = new ConcurrentHashMap<>();
+
+    private OperationStats statsOf(String table, Operation operation) {
+        return stats.computeIfAbsent(table, k -> new ConcurrentHashMap<>()).computeIfAbsent(operation, k -> new OperationStats());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordStatement(String table, Operation operation, int executions, int rows, long nanos) {
+        statsOf(table, operation).recordStatement(executions, rows, nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordError(String table, Operation operation) {
+        statsOf(table, operation).recordError();
+    }
+
+    /**
+     * Returns the stats of an operation on a table.
+     *
+     * @param table     Name of the table.
+     * @param operation An operation.
+     * @return Stats of the operation, or {@code null} if nothing was recorded for it yet.
+     */
+    public OperationStats getStats(String table, Operation operation) {
+        Map<Operation, OperationStats> tableStats = stats.get(table);
+        return tableStats == null ? null : tableStats.get(operation);
+    }
+
+    /**
+     * Returns the stats of every operation recorded so far, grouped by table.
+     *
+     * @return An unmodifiable copy of table names to the stats of their operations.
+     */
+    public Map<String, Map<Operation, OperationStats>> getStats() {
+        Map<String, Map<Operation, OperationStats>> copy = new TreeMap<>();
+        stats.forEach((table, operations) -> {
+            Map<Operation, OperationStats> operationsCopy = new EnumMap<>(Operation.class);
+            operationsCopy.putAll(operations);
+            copy.put(table, Collections.unmodifiableMap(operationsCopy));
+        });
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "InMemoryMetrics{" +
+                "stats=" + getStats() +
+                '}';
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.metrics;
+
+import dev.efekos.simple_ql.data.Operation;
+
+/**
+ * Receives measurements of the statements SimpleQL executes, grouped by table and {@link Operation}. Implementations
+ * are called on the threads that execute statements, including the thread of the write queue, so they must be thread
+ * safe and return quickly. Every method does nothing by default, see {@link #NOOP}.
+ *
+ * @since 1.2
+ */
+public interface Metrics {
+
+    /**
+     * Metrics that are thrown away. Default metrics of a {@link dev.efekos.simple_ql.data.Database}.
+     */
+    Metrics NOOP = new Metrics() {
+        @Override
+        public String toString() {
+            return "Metrics.NOOP";
+        }
+    };
+
+    /**
+     * Called after a statement is executed successfully.
+     *
+     * @param table      Name of the table the statement was executed on.
+     * @param operation  What the statement was executed for.
+     * @param executions Amount of times the statement was executed, which is more than 1 for JDBC batches.
+     * @param rows       Amount of rows the statement read and hydrated, or changed.
+     * @param nanos      Time the statement took, including hydrating its rows, in nanoseconds.
+     */
+    default void recordStatement(String table, Operation operation, int executions, int rows, long nanos) {
+    }
+
+    /**
+     * Called after a statement fails.
+     *
+     * @param table     Name of the table the statement was executed on.
+     * @param operation What the statement was executed for.
+     */
+    default void recordError(String table, Operation operation) {
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latencies of one {@link dev.efekos.simple_ql.data.Operation} on one table, recorded by
+ * {@link InMemoryMetrics}. Values keep changing while statements are executed.
+ *
+ * @since 1.2
+ */
+public final class OperationStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    OperationStats() {
+    }
+
+    void recordStatement(int executions, int rows, long nanos) {
+        count.add(executions);
+        this.rows.add(rows);
+        latency.record(nanos);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Returns the amount of times the operation was done successfully. Every row of a JDBC batch counts once.
+     *
+     * @return Operation count.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the amount of statements of the operation that failed.
+     *
+     * @return Error count.
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the amount of rows the operation read and hydrated, or changed.
+     *
+     * @return Row count.
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * Returns the latencies of the statements of the operation. A JDBC batch is recorded as one statement.
+     *
+     * @return Latency histogram.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "OperationStats{" +
+                "count=" + getCount() +
+                ", errors=" + getErrors() +
+                ", rows=" + getRows() +
+                ", latency=" + latency +
+                '}';
+    }
+
+}
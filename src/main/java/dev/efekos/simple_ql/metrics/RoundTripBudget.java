@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.metrics;
+
+import dev.efekos.simple_ql.exception.RoundTripBudgetExceededException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Limits of JDBC calls an action may make, checked against what a {@link StatementCounter} counts while the action
+ * runs. Limits are unlimited until set, and apply to every table unless {@link #forTable(String)} is used.
+ * <pre>{@code
+ * counter.budget()
+ *         .forTable("customers")
+ *         .maxExecutions(2)
+ *         .check(() -> {
+ *             customer.clean();
+ *             database.getWriteQueue().flush();
+ *         });
+ * }</pre>
+ * Writes are executed by the write queue in the background, so actions that write must flush the queue before they
+ * return for their statements to be counted. Statements executed by other threads while the action runs are counted
+ * as well.
+ *
+ * @since 1.2
+ */
+public final class RoundTripBudget {
+
+    private final StatementCounter counter;
+    private String table;
+    private long maxPrepares = -1;
+    private long maxExecutions = -1;
+    private long maxBatchedStatements = -1;
+    private long maxRowsFetched = -1;
+    private long maxBytesBound = -1;
+
+    RoundTripBudget(StatementCounter counter) {
+        this.counter = counter;
+    }
+
+    /**
+     * Only counts statements of the given table.
+     *
+     * @param table Name of the table.
+     * @return This budget.
+     */
+    public RoundTripBudget forTable(String table) {
+        this.table = table;
+        return this;
+    }
+
+    /**
+     * Limits the amount of statements the action can prepare.
+     *
+     * @param maxPrepares Maximum amount of prepares.
+     * @return This budget.
+     */
+    public RoundTripBudget maxPrepares(long maxPrepares) {
+        this.maxPrepares = maxPrepares;
+        return this;
+    }
+
+    /**
+     * Limits the amount of round trips the action can make, where a JDBC batch is one round trip.
+     *
+     * @param maxExecutions Maximum amount of executions.
+     * @return This budget.
+     */
+    public RoundTripBudget maxExecutions(long maxExecutions) {
+        this.maxExecutions = maxExecutions;
+        return this;
+    }
+
+    /**
+     * Limits the amount of statements the action can execute as part of JDBC batches.
+     *
+     * @param maxBatchedStatements Maximum amount of batched statements.
+     * @return This budget.
+     */
+    public RoundTripBudget maxBatchedStatements(long maxBatchedStatements) {
+        this.maxBatchedStatements = maxBatchedStatements;
+        return this;
+    }
+
+    /**
+     * Limits the amount of rows the action can read.
+     *
+     * @param maxRowsFetched Maximum amount of fetched rows.
+     * @return This budget.
+     */
+    public RoundTripBudget maxRowsFetched(long maxRowsFetched) {
+        this.maxRowsFetched = maxRowsFetched;
+        return this;
+    }
+
+    /**
+     * Limits the approximate size of the values the action can bind to parameters.
+     *
+     * @param maxBytesBound Maximum amount of bytes.
+     * @return This budget.
+     */
+    public RoundTripBudget maxBytesBound(long maxBytesBound) {
+        this.maxBytesBound = maxBytesBound;
+        return this;
+    }
+
+    /**
+     * Runs the given action and checks what it was counted to do against the limits of this budget.
+     *
+     * @param action Action to run.
+     * @return What the action was counted to do.
+     * @throws RoundTripBudgetExceededException if the action exceeded any limit.
+     * @throws Exception                        if the action throws one.
+     */
+    public StatementCounts check(Action action) throws Exception {
+        StatementCounts before = snapshot();
+        action.run();
+        StatementCounts counts = snapshot().minus(before);
+
+        List<String> exceeded = new ArrayList<>();
+        exceeded(exceeded, "prepares", counts.prepares(), maxPrepares);
+        exceeded(exceeded, "executions", counts.executions(), maxExecutions);
+        exceeded(exceeded, "batched statements", counts.batchedStatements(), maxBatchedStatements);
+        exceeded(exceeded, "rows fetched", counts.rowsFetched(), maxRowsFetched);
+        exceeded(exceeded, "bytes bound", counts.bytesBound(), maxBytesBound);
+        if (!exceeded.isEmpty())
+            throw new RoundTripBudgetExceededException("Round trip budget" + (table != null ? " of table '" + table + "'" : "") + " exceeded: " + String.join(", ", exceeded), counts);
+        return counts;
+    }
+
+    private StatementCounts snapshot() {
+        return table != null ? counter.getCounts(table) : counter.getTotal();
+    }
+
+    private static void exceeded(List<String> exceeded, String name, long count, long max) {
+        if (max >= 0 && count > max) exceeded.add(count + " " + name + " (at most " + max + ")");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "RoundTripBudget{" +
+                "table='" + table + '\'' +
+                ", maxPrepares=" + maxPrepares +
+                ", maxExecutions=" + maxExecutions +
+                ", maxBatchedStatements=" + maxBatchedStatements +
+                ", maxRowsFetched=" + maxRowsFetched +
+                ", maxBytesBound=" + maxBytesBound +
+                '}';
+    }
+
+    /**
+     * An action whose JDBC calls are checked against a {@link RoundTripBudget}.
+     */
+    @FunctionalInterface
+    public interface Action {
+
+        /**
+         * Runs the action.
+         *
+         * @throws Exception if the action fails.
+         */
+        void run() throws Exception;
+
+    }
+
+}
@@ -0,0 +1,308 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.metrics;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the JDBC calls made through the connections it wraps, grouped by the table each statement is for. Installed
+ * on a database using {@link dev.efekos.simple_ql.data.Database#setStatementCounter(StatementCounter)}, it lets test
+ * suites check how many round trips an operation costs, see {@link #budget()}.
+ * <p>
+ * The table of a statement is the first table its SQL names after {@code FROM}, {@code INTO}, {@code UPDATE},
+ * {@code TABLE} or {@code ON}. Statements that don't name a table, such as {@code PRAGMA}s, are counted under an empty
+ * table name. Wrapping a connection puts a proxy in front of every statement and result set created through it, so
+ * the counter is meant for tests and diagnostics rather than production.
+ *
+ * @since 1.2
+ */
+public final class StatementCounter {
+
+    private static final Pattern TABLE = Pattern.compile("\\b(?:FROM|INTO|UPDATE|TABLE(?:\\s+IF\\s+NOT\\s+EXISTS)?|ON)\\s+(?!ON\\b)([A-Za-z_][A-Za-z0-9_$]*)", Pattern.CASE_INSENSITIVE);
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a connection that counts the calls made through it and forwards them to the given connection.
+     *
+     * @param connection Connection to wrap.
+     * @return Counting connection.
+     */
+    public Connection wrap(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    /**
+     * Returns what was counted for the given table so far.
+     *
+     * @param table Name of the table.
+     * @return Counts of the table, {@link StatementCounts#ZERO} if nothing was counted.
+     */
+    public StatementCounts getCounts(String table) {
+        Counters counts = counters.get(table);
+        return counts == null ? StatementCounts.ZERO : counts.snapshot();
+    }
+
+    /**
+     * Returns what was counted so far, by table.
+     *
+     * @return Counts of every table something was counted for, sorted by table name.
+     */
+    public Map<String, StatementCounts> getCounts() {
+        Map<String, StatementCounts> snapshot = new TreeMap<>();
+        counters.forEach((table, counts) -> snapshot.put(table, counts.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Returns what was counted so far for every table together.
+     *
+     * @return Sum of the counts of every table.
+     */
+    public StatementCounts getTotal() {
+        StatementCounts total = StatementCounts.ZERO;
+        for (Counters counts : counters.values()) total = total.plus(counts.snapshot());
+        return total;
+    }
+
+    /**
+     * Sets every count back to zero.
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    /**
+     * Creates a budget of JDBC calls an action can make, counted by this counter.
+     *
+     * @return A new budget without any limits.
+     */
+    public RoundTripBudget budget() {
+        return new RoundTripBudget(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "StatementCounter{" +
+                "counts=" + getCounts() +
+                '}';
+    }
+
+    static String tableOf(String sql) {
+        if (sql == null) return "";
+        Matcher matcher = TABLE.matcher(sql);
+        return matcher.find() ? matcher.group(1) : "";
+    }
+
+    private Counters counters(String table) {
+        return counters.computeIfAbsent(table, t -> new Counters());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object forward(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Handles the methods of {@link Object} for proxies, so they are equal only to themselves.
+     */
+    private static Object objectMethod(Object proxy, Object target, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> "StatementCounter{" + target + '}';
+        };
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        return method.getDeclaringClass() == Object.class;
+    }
+
+    private static long sizeOf(Object value, Object[] args) {
+        if (value == null) return 0;
+        if (value instanceof String s) return s.getBytes(StandardCharsets.UTF_8).length;
+        if (value instanceof byte[] bytes) return bytes.length;
+        if (value instanceof Long || value instanceof Double) return 8;
+        if (value instanceof Integer || value instanceof Float) return 4;
+        if (value instanceof Short) return 2;
+        if (value instanceof Byte || value instanceof Boolean) return 1;
+        if (value instanceof InputStream || value instanceof Reader)
+            return args.length > 2 && args[2] instanceof Number length ? length.longValue() : 0;
+        return value.toString().length();
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) return objectMethod(proxy, target, method, args);
+            Object result = forward(target, method, args);
+            String name = method.getName();
+            if (result instanceof CallableStatement stmt && name.equals("prepareCall"))
+                return proxy(CallableStatement.class, prepared(stmt, (String) args[0], (Connection) proxy));
+            if (result instanceof PreparedStatement stmt && name.equals("prepareStatement"))
+                return proxy(PreparedStatement.class, prepared(stmt, (String) args[0], (Connection) proxy));
+            if (result instanceof Statement stmt && name.equals("createStatement"))
+                return proxy(Statement.class, new StatementHandler(stmt, null, (Connection) proxy));
+            return result;
+        }
+
+        private StatementHandler prepared(Statement stmt, String sql, Connection proxy) {
+            String table = tableOf(sql);
+            counters(table).prepares.increment();
+            return new StatementHandler(stmt, table, proxy);
+        }
+
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String table;
+        private final Connection connection;
+        private String batchTable;
+        private int pendingBatch;
+        private String lastTable;
+
+        private StatementHandler(Statement target, String table, Connection connection) {
+            this.target = target;
+            this.table = table;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) return objectMethod(proxy, target, method, args);
+            String name = method.getName();
+            if (name.equals("getConnection")) return connection;
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                if (!name.equals("setNull")) counters(tableOrEmpty()).bytesBound.add(sizeOf(args[1], args));
+            } else if (name.equals("addBatch")) {
+                synchronized (this) {
+                    if (batchTable == null) batchTable = args == null ? table : tableOf((String) args[0]);
+                    pendingBatch++;
+                }
+            } else if (name.equals("clearBatch")) {
+                synchronized (this) {
+                    batchTable = null;
+                    pendingBatch = 0;
+                }
+            } else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                synchronized (this) {
+                    Counters counts = counters(batchTable != null ? batchTable : tableOrEmpty());
+                    counts.executions.increment();
+                    counts.batchedStatements.add(pendingBatch);
+                    batchTable = null;
+                    pendingBatch = 0;
+                }
+            } else if (name.startsWith("execute")) {
+                String executed = args != null && args.length > 0 && args[0] instanceof String sql ? tableOf(sql) : tableOrEmpty();
+                lastTable = executed;
+                counters(executed).executions.increment();
+            }
+
+            Object result = forward(target, method, args);
+            if (result instanceof ResultSet set)
+                return proxy(ResultSet.class, new ResultSetHandler(set, lastTable != null ? lastTable : tableOrEmpty(), (Statement) proxy));
+            return result;
+        }
+
+        private String tableOrEmpty() {
+            return table != null ? table : "";
+        }
+
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final Counters counts;
+        private final Statement statement;
+
+        private ResultSetHandler(ResultSet target, String table, Statement statement) {
+            this.target = target;
+            this.counts = counters(table);
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) return objectMethod(proxy, target, method, args);
+            if (method.getName().equals("getStatement")) return statement;
+            Object result = forward(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) counts.rowsFetched.increment();
+            return result;
+        }
+
+    }
+
+    private static final class Counters {
+
+        private final LongAdder prepares = new LongAdder();
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder batchedStatements = new LongAdder();
+        private final LongAdder rowsFetched = new LongAdder();
+        private final LongAdder bytesBound = new LongAdder();
+
+        StatementCounts snapshot() {
+            return new StatementCounts(prepares.sum(), executions.sum(), batchedStatements.sum(), rowsFetched.sum(), bytesBound.sum());
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.metrics;
+
+/**
+ * Amounts of JDBC calls a {@link StatementCounter} counted, either for one table or for every table.
+ *
+ * @param prepares          Amount of statements prepared.
+ * @param executions        Amount of times statements were executed, which is the amount of round trips to the
+ *                          database. A JDBC batch is executed once.
+ * @param batchedStatements Amount of statements executed as part of JDBC batches.
+ * @param rowsFetched       Amount of rows read from result sets.
+ * @param bytesBound        Approximate size of the values bound to parameters, in bytes. Strings are counted by the
+ *                          length of their UTF-8 encoding, and streams by the length given while binding them.
+ * @since 1.2
+ */
+public record StatementCounts(long prepares, long executions, long batchedStatements, long rowsFetched,
+                              long bytesBound) {
+
+    /**
+     * Counts of nothing.
+     */
+    public static final StatementCounts ZERO = new StatementCounts(0, 0, 0, 0, 0);
+
+    /**
+     * Adds the given counts to these counts.
+     *
+     * @param other Counts to add.
+     * @return Sum of the counts.
+     */
+    public StatementCounts plus(StatementCounts other) {
+        return new StatementCounts(prepares + other.prepares, executions + other.executions,
+                batchedStatements + other.batchedStatements, rowsFetched + other.rowsFetched, bytesBound + other.bytesBound);
+    }
+
+    /**
+     * Subtracts the given counts from these counts, which is useful to find what was counted between two snapshots.
+     *
+     * @param other Counts to subtract.
+     * @return Difference of the counts.
+     */
+    public StatementCounts minus(StatementCounts other) {
+        return new StatementCounts(prepares - other.prepares, executions - other.executions,
+                batchedStatements - other.batchedStatements, rowsFetched - other.rowsFetched, bytesBound - other.bytesBound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "StatementCounts{" +
+                "prepares=" + prepares +
+                ", executions=" + executions +
+                ", batchedStatements=" + batchedStatements +
+                ", rowsFetched=" + rowsFetched +
+                ", bytesBound=" + bytesBound +
+                '}';
+    }
+
+}
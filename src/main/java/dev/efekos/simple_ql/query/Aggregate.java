@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.query;
+
+/**
+ * Represents an SQL aggregate function that can be computed for each group of rows using
+ * {@link dev.efekos.simple_ql.data.Table#groupBy(String, Aggregate, String, Condition...)}.
+ * @since 1.2
+ */
+public enum Aggregate {
+
+    /**
+     * Amount of rows, using {@code COUNT}. The value field/column is ignored.
+     */
+    COUNT("COUNT"),
+
+    /**
+     * Sum of the values, using {@code SUM}.
+     */
+    SUM("SUM"),
+
+    /**
+     * Average of the values, using {@code AVG}.
+     */
+    AVERAGE("AVG"),
+
+    /**
+     * Smallest value, using {@code MIN}.
+     */
+    MIN("MIN"),
+
+    /**
+     * Largest value, using {@code MAX}.
+     */
+    MAX("MAX");
+
+    private final String function;
+
+    Aggregate(String function) {
+        this.function = function;
+    }
+
+    /**
+     * Generates the SQL code of this aggregate for a field/column.
+     * @param fieldName Name of the field/column.
+     * @return Generated SQL code, such as {@code SUM(age)}.
+     */
+    public String toSqlCode(String fieldName) {
+        return function + "(" + (this == COUNT ? "*" : fieldName) + ")";
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A condition type used to merge multiple conditions under the SQL {@code AND} statement.
+ * @since 1.2
+ */
+public class AllOfCondition implements Condition {
+
+    private final List<Condition> conditions;
+
+    /**
+     * Creates a new instance using the list of conditions.
+     * @param conditions A list of conditions.
+     */
+    public AllOfCondition(List<Condition> conditions) {
+        this.conditions = List.copyOf(conditions);
+    }
+
+    /**
+     * Creates a new instance using the array of conditions.
+     * @param conditions An array of conditions.
+     */
+    public AllOfCondition(Condition... conditions) {
+        this.conditions = List.of(conditions);
+    }
+
+    /**
+     * Returns the merged conditions.
+     * @return A list of conditions.
+     */
+    public List<Condition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toSqlCode() {
+        StringBuilder builder = new StringBuilder().append("(");
+        for (int i = 0; i < conditions.size(); i++) {
+            if (i != 0) builder.append(" AND ");
+            builder.append("(").append(conditions.get(i).toSqlCode()).append(")");
+        }
+        return builder.append(")").toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        builder.append("(");
+        for (int i = 0; i < conditions.size(); i++) {
+            if (i != 0) builder.append(" AND ");
+            builder.append("(");
+            conditions.get(i).appendSql(builder);
+            builder.append(")");
+        }
+        builder.append(")");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        for (Condition condition : conditions) condition.collectParameters(context, parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        List<Object> shapes = new ArrayList<>(conditions.size() + 1);
+        shapes.add(AllOfCondition.class);
+        for (Condition condition : conditions) shapes.add(condition.shape());
+        return shapes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape(StatementContext context) {
+        List<Object> shapes = new ArrayList<>(conditions.size() + 1);
+        shapes.add(AllOfCondition.class);
+        for (Condition condition : conditions) shapes.add(condition.shape(context));
+        return shapes;
+    }
+
+    /**
+     * {@inheritDoc} Flattens nested {@link AllOfCondition}s, removes duplicates and {@link ConstantCondition#TRUE}s,
+     * collapses into {@link ConstantCondition#FALSE} if any condition is never true, and intersects
+     * {@link RangeCondition}s and compatible {@link TypedRangeCondition}s on the same field/column.
+     */
+    @Override
+    public Condition normalize() {
+        LinkedHashSet<Condition> flat = new LinkedHashSet<>();
+        for (Condition condition : conditions) {
+            Condition normalized = condition.normalize();
+            if (normalized instanceof AllOfCondition all) flat.addAll(all.conditions);
+            else if (normalized == ConstantCondition.FALSE) return ConstantCondition.FALSE;
+            else if (normalized != ConstantCondition.TRUE) flat.add(normalized);
+        }
+
+        List<Condition> merged = new ArrayList<>(flat.size());
+        Map<String, Integer> ranges = new HashMap<>();
+        Map<String, List<Integer>> typedRanges = new HashMap<>();
+        for (Condition condition : flat) {
+            if (condition instanceof TypedRangeCondition<?> typed) {
+                List<Integer> indexes = typedRanges.computeIfAbsent(typed.getFieldName(), k -> new ArrayList<>());
+                Integer compatible = null;
+                for (Integer index : indexes)
+                    if (((TypedRangeCondition<?>) merged.get(index)).isCompatible(typed)) compatible = index;
+                if (compatible == null) {
+                    indexes.add(merged.size());
+                    merged.add(typed);
+                    continue;
+                }
+                Condition intersection = ((TypedRangeCondition<?>) merged.get(compatible)).intersect(typed);
+                if (intersection == ConstantCondition.FALSE) return ConstantCondition.FALSE;
+                merged.set(compatible, intersection);
+                continue;
+            }
+            if (!(condition instanceof RangeCondition range)) {
+                merged.add(condition);
+                continue;
+            }
+            Integer index = ranges.get(range.getFieldName());
+            if (index == null) {
+                ranges.put(range.getFieldName(), merged.size());
+                merged.add(range);
+                continue;
+            }
+            Condition intersection = ((RangeCondition) merged.get(index)).intersect(range);
+            if (intersection == ConstantCondition.FALSE) return ConstantCondition.FALSE;
+            merged.set(index, intersection);
+        }
+
+        if (merged.isEmpty()) return ConstantCondition.TRUE;
+        if (merged.size() == 1) return merged.get(0);
+        return merged.equals(conditions) ? this : new AllOfCondition(merged);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        List<Matcher<T>> matchers = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) matchers.add(condition.toMatcher(columns));
+        return row -> {
+            Boolean result = true;
+            for (Matcher<T> matcher : matchers) {
+                Boolean match = matcher.match(row);
+                if (match == null) result = null;
+                else if (!match) return false;
+            }
+            return result;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AllOfCondition that = (AllOfCondition) o;
+        return Objects.equals(conditions, that.conditions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(conditions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "AllOfCondition{" +
+                "conditions=" + conditions +
+                '}';
+    }
+
+}
@@ -24,7 +24,10 @@
 
 package dev.efekos.simple_ql.query;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A condition type used to merge multiple conditions under the SQL {@code OR} statement.
@@ -66,6 +69,115 @@ public class AnyOfCondition implements Condition {
         return builder.append(")").toString();
     }
 
+    /**
+     * Returns the merged conditions.
+     * @return A list of conditions.
+     * @since 1.2
+     */
+    public List<Condition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        builder.append("(");
+        for (int i = 0; i < conditions.size(); i++) {
+            if (i != 0) builder.append(" OR ");
+            conditions.get(i).appendSql(builder);
+        }
+        builder.append(")");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        for (Condition condition : conditions) condition.collectParameters(context, parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        List<Object> shapes = new ArrayList<>(conditions.size() + 1);
+        shapes.add(AnyOfCondition.class);
+        for (Condition condition : conditions) shapes.add(condition.shape());
+        return shapes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape(StatementContext context) {
+        List<Object> shapes = new ArrayList<>(conditions.size() + 1);
+        shapes.add(AnyOfCondition.class);
+        for (Condition condition : conditions) shapes.add(condition.shape(context));
+        return shapes;
+    }
+
+    /**
+     * {@inheritDoc} Flattens nested {@link AnyOfCondition}s, removes duplicates and {@link ConstantCondition#FALSE}s,
+     * and collapses into {@link ConstantCondition#TRUE} if any condition is always true.
+     */
+    @Override
+    public Condition normalize() {
+        LinkedHashSet<Condition> flat = new LinkedHashSet<>();
+        for (Condition condition : conditions) {
+            Condition normalized = condition.normalize();
+            if (normalized instanceof AnyOfCondition any) flat.addAll(any.conditions);
+            else if (normalized == ConstantCondition.TRUE) return ConstantCondition.TRUE;
+            else if (normalized != ConstantCondition.FALSE) flat.add(normalized);
+        }
+
+        if (flat.isEmpty()) return ConstantCondition.FALSE;
+        if (flat.size() == 1) return flat.iterator().next();
+        List<Condition> merged = new ArrayList<>(flat);
+        return merged.equals(conditions) ? this : new AnyOfCondition(merged);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        List<Matcher<T>> matchers = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) matchers.add(condition.toMatcher(columns));
+        return row -> {
+            Boolean result = false;
+            for (Matcher<T> matcher : matchers) {
+                Boolean match = matcher.match(row);
+                if (match == null) result = null;
+                else if (match) return true;
+            }
+            return result;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AnyOfCondition that = (AnyOfCondition) o;
+        return Objects.equals(conditions, that.conditions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(conditions);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,10 @@
 
 package dev.efekos.simple_ql.query;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
 /**
  * A condition type made specifically for boolean columns. Used to check if a column is a specified boolean value.
  * @since 1.0
@@ -51,6 +55,63 @@ public class BooleanMatchCondition implements Condition {
         return fieldName + " = " + (value ? '1' : '0');
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        builder.append(fieldName).append(" = ").appendParameter((value ? 1 : 0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        parameters.add((value ? 1 : 0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(BooleanMatchCondition.class, fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        Function<T, Object> column = columns.column(fieldName);
+        return row -> {
+            Object columnValue = column.apply(row);
+            if (columnValue instanceof Boolean b) return b == value;
+            if (columnValue instanceof Number n) return (n.doubleValue() != 0) == value;
+            return columnValue == null ? null : Boolean.parseBoolean(columnValue.toString()) == value;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BooleanMatchCondition that = (BooleanMatchCondition) o;
+        return value == that.value && Objects.equals(fieldName, that.fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,10 @@
 
 package dev.efekos.simple_ql.query;
 
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 /**
  * Represents an SQL condition that will add a {@code WHERE} statement to a {@link Query} when converting it to sql code.
  * @since 1.0
@@ -36,4 +40,122 @@ public interface Condition {
      */
     String toSqlCode();
 
+    /**
+     * Appends this condition to a statement as an SQL template, binding its values as {@code ?} parameters. Conditions
+     * that don't override this method are appended using {@link #toSqlCode()}, with their values written into the
+     * statement.
+     * @param builder Statement to append to.
+     * @since 1.2
+     */
+    default void appendSql(StatementBuilder builder) {
+        builder.append(toSqlCode());
+    }
+
+    /**
+     * Adds the values of the {@code ?} parameters {@link #appendSql(StatementBuilder)} appends to the given list, in the
+     * same order. Used to bind a cached SQL template without generating it again.
+     * @param context Context of the table the template was generated for, same as
+     *                {@link StatementBuilder#getContext()}.
+     * @param parameters List to add the parameter values to.
+     * @since 1.2
+     */
+    default void collectParameters(StatementContext context, List<Object> parameters) {
+    }
+
+    /**
+     * Returns the shape of this condition: an object that is equal for every condition that appends the same SQL
+     * template in {@link #appendSql(StatementBuilder)} for the same context, no matter what its parameter values are. Used as the key of
+     * the SQL template cache of {@link Query}.
+     * @return Shape of this condition, which must implement {@link Object#equals(Object)} and
+     * {@link Object#hashCode()}. {@link #toSqlCode()} by default.
+     * @since 1.2
+     */
+    default Object shape() {
+        return toSqlCode();
+    }
+
+    /**
+     * Returns the shape of this condition in the given context. Conditions whose SQL depends on the context can leave
+     * out parts of {@link #shape()} that don't change the template there. Conditions that contain other conditions
+     * must pass the context on to them.
+     * @param context Context of the table the condition is for.
+     * @return Shape of this condition in the given context. {@link #shape()} by default.
+     * @since 1.2
+     */
+    default Object shape(StatementContext context) {
+        return shape();
+    }
+
+    /**
+     * Returns a simpler condition that matches the same rows, if there is one. Merging conditions such as
+     * {@link AllOfCondition} flatten their nested conditions, remove duplicates, fold constants and merge ranges.
+     * @return A simpler equivalent condition, or {@code this}.
+     * @since 1.2
+     */
+    default Condition normalize() {
+        return this;
+    }
+
+    /**
+     * Compiles this condition into a matcher that evaluates it against rows in memory the same way the database would,
+     * including the three-valued logic of SQL where comparisons with {@code NULL} are unknown.
+     * @param columns Accessors of the columns of the rows, usually provided by the table of the rows.
+     * @param <T> Type of the rows.
+     * @return A matcher for this condition.
+     * @throws UnsupportedOperationException if this condition can't be evaluated outside the database, which is the
+     *                                       default.
+     * @since 1.2
+     */
+    default <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        throw new UnsupportedOperationException(getClass().getName() + " can't be evaluated outside the database");
+    }
+
+    /**
+     * Compiles this condition into a {@link Predicate} that accepts the rows the database would return for it.
+     * @param columns Accessors of the columns of the rows, usually provided by the table of the rows.
+     * @param <T> Type of the rows.
+     * @return A predicate for this condition.
+     * @throws UnsupportedOperationException if this condition can't be evaluated outside the database.
+     * @since 1.2
+     */
+    default <T> Predicate<T> toPredicate(ColumnAccessor<T> columns) {
+        Matcher<T> matcher = toMatcher(columns);
+        return row -> matcher.match(row) == Boolean.TRUE;
+    }
+
+    /**
+     * Provides the values of the columns of rows, as they are stored in the database.
+     * @param <T> Type of the rows.
+     * @since 1.2
+     */
+    @FunctionalInterface
+    interface ColumnAccessor<T> {
+
+        /**
+         * Returns a function that reads the value of a column from a row.
+         * @param fieldName Name of the field/column.
+         * @return A function returning the value the column stores for a row, which might be {@code null}.
+         * @throws IllegalArgumentException if the rows don't have such a field/column.
+         */
+        Function<T, Object> column(String fieldName);
+
+    }
+
+    /**
+     * A condition compiled to be evaluated against rows in memory.
+     * @param <T> Type of the rows.
+     * @since 1.2
+     */
+    @FunctionalInterface
+    interface Matcher<T> {
+
+        /**
+         * Evaluates the condition against a row.
+         * @param row A row.
+         * @return {@code true} or {@code false}, or {@code null} if the result is unknown as in SQL {@code NULL}.
+         */
+        Boolean match(T row);
+
+    }
+
 }
@@ -24,6 +24,8 @@
 
 package dev.efekos.simple_ql.query;
 
+import dev.efekos.simple_ql.implementor.Implementor;
+
 /**
  * A utility class used to quickly create condition classes.
  * @since 1.0
@@ -74,6 +76,114 @@ public class Conditions {
         return new RangeCondition(n, null, fieldName);
     }
 
+    /**
+     * Creates a new {@link TypedRangeCondition} that will match rows where the value of {@code fieldName} is not equal
+     * to and less than {@code number}.
+     * @param fieldName Name of the field/column.
+     * @param number Number value.
+     * @return A {@link TypedRangeCondition} without a minimum value.
+     * @since 1.2
+     */
+    public static TypedRangeCondition<Long> lessThan(String fieldName, long number) {
+        return new TypedRangeCondition<>(null, false, number, false, fieldName);
+    }
+
+    /**
+     * Creates a new {@link TypedRangeCondition} that will match rows where the value of {@code fieldName} is not equal
+     * to and more than {@code number}.
+     * @param fieldName Name of the field/column.
+     * @param number Number value.
+     * @return A {@link TypedRangeCondition} without a maximum value.
+     * @since 1.2
+     */
+    public static TypedRangeCondition<Long> greaterThan(String fieldName, long number) {
+        return new TypedRangeCondition<>(number, false, null, false, fieldName);
+    }
+
+    /**
+     * Creates a new {@link TypedRangeCondition} that will match rows where the value of {@code fieldName} is not equal
+     * to and less than {@code number}.
+     * @param fieldName Name of the field/column.
+     * @param number Number value.
+     * @return A {@link TypedRangeCondition} without a minimum value.
+     * @since 1.2
+     */
+    public static TypedRangeCondition<Double> lessThan(String fieldName, double number) {
+        return new TypedRangeCondition<>(null, false, number, false, fieldName);
+    }
+
+    /**
+     * Creates a new {@link TypedRangeCondition} that will match rows where the value of {@code fieldName} is not equal
+     * to and more than {@code number}.
+     * @param fieldName Name of the field/column.
+     * @param number Number value.
+     * @return A {@link TypedRangeCondition} without a maximum value.
+     * @since 1.2
+     */
+    public static TypedRangeCondition<Double> greaterThan(String fieldName, double number) {
+        return new TypedRangeCondition<>(number, false, null, false, fieldName);
+    }
+
+    /**
+     * Creates a new {@link TypedRangeCondition} that will match rows where the value of {@code fieldName} is between
+     * {@code start} and {@code end}, both inclusive.
+     * @param fieldName Name of the field/column.
+     * @param start Minimum value.
+     * @param end Maximum value.
+     * @return A {@link TypedRangeCondition} instance.
+     * @since 1.2
+     */
+    public static TypedRangeCondition<Long> between(String fieldName, long start, long end) {
+        return new TypedRangeCondition<>(start, true, end, true, fieldName);
+    }
+
+    /**
+     * Creates a new {@link TypedRangeCondition} that will match rows where the value of {@code fieldName} is between
+     * {@code start} and {@code end}, both inclusive.
+     * @param fieldName Name of the field/column.
+     * @param start Minimum value.
+     * @param end Maximum value.
+     * @return A {@link TypedRangeCondition} instance.
+     * @since 1.2
+     */
+    public static TypedRangeCondition<Double> between(String fieldName, double start, double end) {
+        return new TypedRangeCondition<>(start, true, end, true, fieldName);
+    }
+
+    /**
+     * Creates a new {@link TypedRangeCondition} that will match rows where the value of {@code fieldName} is in the
+     * given range, such as a time window of {@code [from, to)}.
+     * @param fieldName Name of the field/column.
+     * @param start Start of the range. Can be {@code null} to imply infinity in the left direction.
+     * @param startInclusive Whether values equal to {@code start} are in the range.
+     * @param end End of the range. Can be {@code null} to imply infinity in the right direction.
+     * @param endInclusive Whether values equal to {@code end} are in the range.
+     * @return A {@link TypedRangeCondition} instance.
+     * @param <V> Type of the bounds.
+     * @since 1.2
+     */
+    public static <V extends Comparable<? super V>> TypedRangeCondition<V> range(String fieldName, V start, boolean startInclusive, V end, boolean endInclusive) {
+        return new TypedRangeCondition<>(start, startInclusive, end, endInclusive, fieldName);
+    }
+
+    /**
+     * Creates a new {@link TypedRangeCondition} that will match rows where the value of {@code fieldName}, a column of
+     * a custom type, is in the given range. The bounds are written using {@code implementor}, whose values must sort
+     * the same way {@link V}s do.
+     * @param fieldName Name of the field/column.
+     * @param implementor Implementor of the column.
+     * @param start Start of the range. Can be {@code null} to imply infinity in the left direction.
+     * @param startInclusive Whether values equal to {@code start} are in the range.
+     * @param end End of the range. Can be {@code null} to imply infinity in the right direction.
+     * @param endInclusive Whether values equal to {@code end} are in the range.
+     * @return A {@link TypedRangeCondition} instance.
+     * @param <V> Type of the bounds.
+     * @since 1.2
+     */
+    public static <V extends Comparable<? super V>> TypedRangeCondition<V> range(String fieldName, Implementor<V, ?> implementor, V start, boolean startInclusive, V end, boolean endInclusive) {
+        return new TypedRangeCondition<>(implementor, start, startInclusive, end, endInclusive, fieldName);
+    }
+
     /**
      * Creates a new {@link BooleanMatchCondition} with the value {@code true} so it matches rows where {@code fieldName}
      * is {@code true} or {@code 1}.
@@ -162,6 +272,40 @@ public class Conditions {
         return new AnyOfCondition(conditions);
     }
 
+    /**
+     * Creates a new {@link AllOfCondition} that will merge multiple conditions using the SQL {@code AND} operator.
+     * @param conditions A list of {@link Condition}s.
+     * @return A {@link AllOfCondition} instance.
+     * @since 1.2
+     */
+    public static AllOfCondition allOf(Condition... conditions) {
+        return new AllOfCondition(conditions);
+    }
+
+    /**
+     * Creates a new {@link NotCondition} that will match rows {@code condition} doesn't match, using the SQL
+     * {@code NOT} operator.
+     * @param condition A {@link Condition}.
+     * @return A {@link NotCondition} instance.
+     * @since 1.2
+     */
+    public static NotCondition not(Condition condition) {
+        return new NotCondition(condition);
+    }
+
+    /**
+     * Creates a new {@link FullTextCondition} that will match rows where every word of {@code text} appears in one of
+     * the searched fields/columns. Words ending with {@code *} match any word starting with them.
+     * @param text Search text.
+     * @param fieldNames Names of the fields/columns to search, or none to search every
+     *                   {@link dev.efekos.simple_ql.annotation.Searchable} field/column.
+     * @return A {@link FullTextCondition} instance.
+     * @since 1.2
+     */
+    public static FullTextCondition search(String text, String... fieldNames) {
+        return new FullTextCondition(text, fieldNames);
+    }
+
     /**
      * Creates a new {@link StringOneOfCondition} that will match rows where the array of strings given contains the
      * value of {@code fieldName}.
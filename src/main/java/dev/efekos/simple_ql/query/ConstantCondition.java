@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.query;
+
+/**
+ * A condition type that either matches every row or no rows at all. Mostly produced by {@link Condition#normalize()}
+ * when parts of a condition are known to be always true or false, such as ranges that don't intersect.
+ * @since 1.2
+ */
+public enum ConstantCondition implements Condition {
+
+    /**
+     * Matches every row.
+     */
+    TRUE("1 = 1"),
+
+    /**
+     * Matches no rows.
+     */
+    FALSE("1 = 0");
+
+    private final String sql;
+
+    ConstantCondition(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Returns the constant for the given value.
+     * @param value Whether the condition should match every row.
+     * @return {@link #TRUE} or {@link #FALSE}.
+     */
+    public static ConstantCondition of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toSqlCode() {
+        return sql;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        boolean value = this == TRUE;
+        return row -> value;
+    }
+
+}
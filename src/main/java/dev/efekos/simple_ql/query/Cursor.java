@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.query;
+
+import java.util.List;
+
+/**
+ * Represents the position of the last row seen while paginating by keys, also known as keyset pagination. A
+ * {@link Query} with a cursor only returns the rows that come after that position in its sort order, which lets
+ * the database seek to the next page using an index instead of reading and throwing away every skipped row.
+ * @param sortValues Values of the sort fields of the last row seen, in the same order as the sorts of the query.
+ * @param primaryKey Value of the primary key of the last row seen, which breaks ties between rows with the same sort
+ *                   values.
+ * @since 1.2
+ */
+public record Cursor(List<Object> sortValues, Object primaryKey) {
+
+    /**
+     * Returns the {@code index}th value of this cursor, treating the primary key as the value after the last sort value.
+     * @param index Index of the value.
+     * @return The value.
+     */
+    public Object get(int index) {
+        return index == sortValues.size() ? primaryKey : sortValues.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Cursor{" +
+                "sortValues=" + sortValues +
+                ", primaryKey=" + primaryKey +
+                '}';
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A condition type used to search {@link dev.efekos.simple_ql.annotation.Searchable} text columns for words. Every word
+ * of the search text must appear in at least one of the searched columns, and words ending with {@code *} match any
+ * word starting with them. On SQLite the search uses the FTS5 index of the table, which tokenizes text into words and
+ * can rank the results (see {@link dev.efekos.simple_ql.data.Table#search(String, int, Condition...)}). Other
+ * databases fall back to {@code LIKE}, matching words anywhere in the columns.
+ * @since 1.2
+ */
+public class FullTextCondition implements Condition {
+
+    private final String text;
+    private final List<String> terms = new ArrayList<>();
+    private final List<Boolean> prefixes = new ArrayList<>();
+    private final List<String> fieldNames;
+
+    /**
+     * Constructs a new {@link FullTextCondition}.
+     * @param text Search text, made of words separated by whitespace. Words ending with {@code *} are prefixes.
+     * @param fieldNames Names of the fields/columns to search. Every searchable field/column of the table is searched
+     *                   if none are given.
+     * @throws IllegalArgumentException if the text has no words.
+     */
+    public FullTextCondition(String text, String... fieldNames) {
+        this.text = text;
+        this.fieldNames = List.of(fieldNames);
+        for (String word : text.trim().split("\\s+")) {
+            boolean prefix = word.endsWith("*");
+            String term = word.replaceAll("\\*+$", "");
+            if (term.isEmpty()) continue;
+            terms.add(term);
+            prefixes.add(prefix);
+        }
+        if (terms.isEmpty()) throw new IllegalArgumentException("Search text must have at least one word");
+    }
+
+    /**
+     * Generates the FTS5 {@code MATCH} expression of this search.
+     * @return Match expression, such as {@code {name bio} : ("john" "do"*)}.
+     */
+    public String toMatchExpression() {
+        StringBuilder builder = new StringBuilder();
+        if (!fieldNames.isEmpty()) builder.append("{").append(String.join(" ", fieldNames)).append("} : (");
+        for (int i = 0; i < terms.size(); i++) {
+            if (i != 0) builder.append(" ");
+            builder.append('"').append(terms.get(i).replace("\"", "\"\"")).append('"');
+            if (prefixes.get(i)) builder.append("*");
+        }
+        if (!fieldNames.isEmpty()) builder.append(")");
+        return builder.toString();
+    }
+
+    private List<String> getFields(StatementContext context) {
+        if (!fieldNames.isEmpty()) return fieldNames;
+        List<String> fields = context == null ? List.of() : context.getSearchableFields();
+        if (fields.isEmpty()) throw new IllegalStateException("There are no searchable fields to search for '" + text + "'");
+        return fields;
+    }
+
+    private static Optional<String> getFullTextTable(StatementContext context) {
+        return context == null ? Optional.empty() : context.getFullTextTableName();
+    }
+
+    /**
+     * {@inheritDoc} Uses {@code LIKE}, as the full-text table isn't known.
+     * @throws IllegalStateException if no fields/columns were given to search.
+     */
+    @Override
+    public String toSqlCode() {
+        StatementBuilder builder = new StatementBuilder();
+        appendLikeSql(builder, getFields(null), true);
+        return builder.getSql();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        Optional<String> table = getFullTextTable(builder.getContext());
+        if (table.isPresent())
+            builder.append(builder.getContext().getPrimaryKeyName()).append(" IN (SELECT ").append(builder.getContext().getFullTextKeyColumn()).append(" FROM ").append(table.get()).append(" WHERE ").append(table.get()).append(" MATCH ").appendParameter(toMatchExpression()).append(")");
+        else appendLikeSql(builder, getFields(builder.getContext()), false);
+    }
+
+    private void appendLikeSql(StatementBuilder builder, List<String> fields, boolean literal) {
+        builder.append("(");
+        for (int i = 0; i < terms.size(); i++) {
+            if (i != 0) builder.append(" AND ");
+            builder.append("(");
+            for (int j = 0; j < fields.size(); j++) {
+                if (j != 0) builder.append(" OR ");
+                if (prefixes.get(i)) {
+                    appendLike(builder, fields.get(j), terms.get(i) + "%", literal);
+                    builder.append(" OR ");
+                    appendLike(builder, fields.get(j), "% " + terms.get(i) + "%", literal);
+                } else appendLike(builder, fields.get(j), "%" + terms.get(i) + "%", literal);
+            }
+            builder.append(")");
+        }
+        builder.append(")");
+    }
+
+    private static void appendLike(StatementBuilder builder, String fieldName, String pattern, boolean literal) {
+        builder.append(fieldName).append(" LIKE ");
+        if (literal) builder.append("'").append(pattern.replace("'", "''")).append("'");
+        else builder.appendParameter(pattern);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        if (getFullTextTable(context).isPresent()) {
+            parameters.add(toMatchExpression());
+            return;
+        }
+        int fieldCount = getFields(context).size();
+        for (int i = 0; i < terms.size(); i++)
+            for (int j = 0; j < fieldCount; j++) {
+                if (prefixes.get(i)) {
+                    parameters.add(terms.get(i) + "%");
+                    parameters.add("% " + terms.get(i) + "%");
+                } else parameters.add("%" + terms.get(i) + "%");
+            }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(FullTextCondition.class, List.copyOf(prefixes), fieldNames);
+    }
+
+    /**
+     * {@inheritDoc} Only supported when the fields/columns to search were given, and matches words the same way the
+     * {@code LIKE} fallback does.
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        if (fieldNames.isEmpty())
+            throw new UnsupportedOperationException("Searchable fields of the table are not known outside the database");
+        List<Function<T, Object>> fields = new ArrayList<>();
+        for (String fieldName : fieldNames) fields.add(columns.column(fieldName));
+        List<String> lowerTerms = terms.stream().map(term -> term.toLowerCase(Locale.ROOT)).toList();
+        return row -> {
+            List<String> values = new ArrayList<>();
+            for (Function<T, Object> field : fields) {
+                Object value = field.apply(row);
+                if (value != null) values.add(value.toString().toLowerCase(Locale.ROOT));
+            }
+            for (int i = 0; i < lowerTerms.size(); i++) {
+                String term = lowerTerms.get(i);
+                boolean prefix = prefixes.get(i);
+                if (values.stream().noneMatch(value -> prefix ? value.startsWith(term) || value.contains(" " + term) : value.contains(term)))
+                    return false;
+            }
+            return true;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FullTextCondition that = (FullTextCondition) o;
+        return Objects.equals(terms, that.terms) && Objects.equals(prefixes, that.prefixes) && Objects.equals(fieldNames, that.fieldNames);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(terms, prefixes, fieldNames);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "FullTextCondition{" +
+                "text='" + text + '\'' +
+                ", fieldNames=" + fieldNames +
+                '}';
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.query;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A condition type used to negate another condition using the SQL {@code NOT} operator.
+ * @since 1.2
+ */
+public class NotCondition implements Condition {
+
+    private final Condition condition;
+
+    /**
+     * Creates a new instance negating the given condition.
+     * @param condition A condition.
+     */
+    public NotCondition(Condition condition) {
+        this.condition = Objects.requireNonNull(condition);
+    }
+
+    /**
+     * Returns the negated condition.
+     * @return Negated condition.
+     */
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toSqlCode() {
+        return "NOT (" + condition.toSqlCode() + ")";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        builder.append("NOT (");
+        condition.appendSql(builder);
+        builder.append(")");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        condition.collectParameters(context, parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(NotCondition.class, condition.shape());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape(StatementContext context) {
+        return List.of(NotCondition.class, condition.shape(context));
+    }
+
+    /**
+     * {@inheritDoc} Removes double negations and negates constants.
+     */
+    @Override
+    public Condition normalize() {
+        Condition normalized = condition.normalize();
+        if (normalized instanceof ConstantCondition constant) return ConstantCondition.of(constant == ConstantCondition.FALSE);
+        if (normalized instanceof NotCondition not) return not.condition;
+        return normalized == condition ? this : new NotCondition(normalized);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        Matcher<T> matcher = condition.toMatcher(columns);
+        return row -> {
+            Boolean match = matcher.match(row);
+            return match == null ? null : !match;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NotCondition that = (NotCondition) o;
+        return Objects.equals(condition, that.condition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(condition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "NotCondition{" +
+                "condition=" + condition +
+                '}';
+    }
+
+}
@@ -24,8 +24,15 @@
 
 package dev.efekos.simple_ql.query;
 
+import dev.efekos.simple_ql.jfr.CacheEvent;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a built SQL query, ready to be executed.
@@ -33,10 +40,21 @@ import java.util.List;
  */
 public class Query {
 
+    private static final int TEMPLATE_CACHE_SIZE = 512;
+    private static final Map<Object, String> templates = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, String> eldest) {
+            return size() > TEMPLATE_CACHE_SIZE;
+        }
+    });
+
     private List<Sort> sorts = new ArrayList<>();
     private List<Condition> conditions = new ArrayList<>();
+    private List<String> selection = new ArrayList<>();
+    private Cursor cursor = null;
     private int limit = 0;
     private int skip = 0;
+    private int timeout = 0;
 
     /**
      * Constructs a built query.
@@ -59,8 +77,11 @@ public class Query {
         return "Query{" +
                 "sorts=" + sorts +
                 ", conditions=" + conditions +
+                ", selection=" + selection +
+                ", cursor=" + cursor +
                 ", limit=" + limit +
                 ", skip=" + skip +
+                ", timeout=" + timeout +
                 '}';
     }
 
@@ -114,6 +135,47 @@ public class Query {
         return conditions;
     }
 
+    /**
+     * Changes the fields/columns this query will load. Rows returned by the query will only have these fields set, and
+     * the rest will be marked as unloaded (see {@link dev.efekos.simple_ql.data.TableRow#isLoaded(String)}).
+     * @param selection Names of the fields/columns to load. An empty list loads every field.
+     * @since 1.2
+     */
+    public void setSelection(List<String> selection) {
+        this.selection = new ArrayList<>(selection);
+    }
+
+    /**
+     * Returns the fields/columns this query will load.
+     * @return Selection list. Empty if every field will be loaded.
+     * @since 1.2
+     */
+    public List<String> getSelection() {
+        return selection;
+    }
+
+    /**
+     * Changes the cursor of this query. A query with a cursor only returns the rows after the cursor in the order of
+     * its sorts, using the primary key to break ties.
+     * @param cursor New cursor, or {@code null} to start from the first row.
+     * @throws IllegalArgumentException if the cursor doesn't have a value for each sort of this query.
+     * @since 1.2
+     */
+    public void setCursor(Cursor cursor) {
+        if (cursor != null && cursor.sortValues().size() != sorts.size())
+            throw new IllegalArgumentException("Cursor must have a value for each sort, expected " + sorts.size() + " but got " + cursor.sortValues().size());
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns the cursor of this query.
+     * @return Cursor, or {@code null} if the query starts from the first row.
+     * @since 1.2
+     */
+    public Cursor getCursor() {
+        return cursor;
+    }
+
     /**
      * Returns the amount of rows this query will skip.
      * @return Skip count.
@@ -133,33 +195,197 @@ public class Query {
     }
 
     /**
-     * Generates an SQL statement that this {@link Query} represents.
-     * @param tableName Name of the table that is using this query.
-     * @return Generated query.
+     * Returns the amount of seconds this query can run for before it is cancelled.
+     * @return Timeout in seconds, or {@code 0} if the default timeout of the database is used.
+     * @since 1.2
      */
-    public String toSqlCode(String tableName) {
-        StringBuilder builder = new StringBuilder();
+    public int getTimeout() {
+        return timeout;
+    }
 
-        builder.append("SELECT * FROM ");
-        builder.append(tableName);
+    /**
+     * Changes the amount of seconds this query can run for. Once it runs out, the statement is cancelled and the query
+     * fails with an {@link java.sql.SQLTimeoutException}.
+     * @param timeout New timeout in seconds, or {@code 0} to use the default timeout of the database (see
+     *                {@link dev.efekos.simple_ql.data.Database#getDefaultQueryTimeout()}).
+     * @throws IllegalArgumentException if {@code timeout} is a negative number.
+     * @since 1.2
+     */
+    public void setTimeout(int timeout) {
+        if (timeout < 0) throw new IllegalArgumentException("Timeout must not be negative");
+        this.timeout = timeout;
+    }
 
-        if (!conditions.isEmpty()) builder.append(" WHERE ");
-        for (int i = 0; i < getConditions().size(); i++) {
-            Condition condition = getConditions().get(i);
+    /**
+     * Generates the {@code WHERE} clause of the given conditions, merging them using the SQL {@code AND} operator.
+     * @param conditions A list of {@link Condition}s.
+     * @return Generated clause starting with a space, or an empty string if there are no conditions.
+     * @since 1.2
+     */
+    public static String toConditionSqlCode(List<Condition> conditions) {
+        if (conditions.isEmpty()) return "";
+        StringBuilder builder = new StringBuilder(" WHERE ");
+        for (int i = 0; i < conditions.size(); i++) {
             if (i != 0) builder.append(" AND ");
             builder.append("(");
-            builder.append(condition.toSqlCode());
+            builder.append(conditions.get(i).toSqlCode());
+            builder.append(")");
+        }
+        return builder.toString();
+    }
+
+    private boolean isUniformlySorted() {
+        for (Sort sort : sorts) if (sort.ascending() != sorts.get(0).ascending()) return false;
+        return true;
+    }
+
+    private String toKeysetSqlCode(List<Sort> order) {
+        // (a, b, key) > (?, ?, ?) can use a composite index, but only works when every column is sorted the same way
+        if (isUniformlySorted()) {
+            StringBuilder columns = new StringBuilder("(");
+            StringBuilder parameters = new StringBuilder("(");
+            for (int i = 0; i < order.size(); i++) {
+                if (i != 0) {
+                    columns.append(", ");
+                    parameters.append(", ");
+                }
+                columns.append(order.get(i).fieldName());
+                parameters.append("?");
+            }
+            return columns + ") " + (order.get(0).ascending() ? ">" : "<") + " " + parameters + ")";
+        }
+
+        // (a > ?) OR (a = ? AND b < ?) OR ...
+        StringBuilder builder = new StringBuilder("(");
+        for (int i = 0; i < order.size(); i++) {
+            if (i != 0) builder.append(" OR ");
+            builder.append("(");
+            for (int j = 0; j < i; j++) builder.append(order.get(j).fieldName()).append(" = ? AND ");
+            Sort sort = order.get(i);
+            builder.append(sort.fieldName()).append(sort.ascending() ? " > ?" : " < ?");
+            builder.append(")");
+        }
+        return builder.append(")").toString();
+    }
+
+    /**
+     * Returns which value of the cursor each {@code ?} parameter generated by
+     * {@link #toSqlCode(String, Collection, String)} should be bound to, as indexes for {@link Cursor#get(int)}.
+     * @return Cursor value indexes in parameter order. Empty if this query has no cursor.
+     * @since 1.2
+     */
+    public List<Integer> getCursorParameterOrder() {
+        List<Integer> indexes = new ArrayList<>();
+        if (cursor == null) return indexes;
+        int keyCount = sorts.size() + 1;
+        if (isUniformlySorted()) for (int i = 0; i < keyCount; i++) indexes.add(i);
+        else for (int i = 0; i < keyCount; i++) for (int j = 0; j <= i; j++) indexes.add(j);
+        return indexes;
+    }
+
+    /**
+     * Generates the {@code WHERE} clause of the given conditions as an SQL template, binding their values as
+     * parameters. Conditions are merged using the SQL {@code AND} operator and normalized first (see
+     * {@link Condition#normalize()}), and templates are cached by the shape of the conditions and the {@code IN} list threshold of the context.
+     * @param context Context of the table the conditions are for.
+     * @param conditions A list of {@link Condition}s.
+     * @return Generated clause starting with a space, or an empty template if there are no conditions.
+     * @since 1.2
+     */
+    public static CompiledQuery compileConditions(StatementContext context, List<Condition> conditions) {
+        return compileConditions(context, conditions, true);
+    }
+
+    /**
+     * Generates the given conditions as an SQL template the same way {@link #compileConditions(StatementContext, List)}
+     * does, but without the {@code WHERE} keyword, so they can be added to a statement that already has a
+     * {@code WHERE} clause using {@code AND}.
+     * @param context Context of the table the conditions are for.
+     * @param conditions A list of {@link Condition}s.
+     * @return Generated conditions merged using {@code AND}, or an empty template if there are no conditions.
+     * @since 1.2
+     */
+    public static CompiledQuery compileConditionBody(StatementContext context, List<Condition> conditions) {
+        return compileConditions(context, conditions, false);
+    }
+
+    private static CompiledQuery compileConditions(StatementContext context, List<Condition> conditions, boolean where) {
+        Condition root = new AllOfCondition(conditions).normalize();
+        List<Object> key = List.of(context, context.getInListThreshold(), where, root.shape(context));
+        String template = templates.get(key);
+        CacheEvent.emit(CacheEvent.TEMPLATE, context.getTableName(), template, template != null);
+        if (template != null) {
+            List<Object> parameters = new ArrayList<>();
+            root.collectParameters(context, parameters);
+            return new CompiledQuery(template, parameters);
+        }
+        StatementBuilder builder = new StatementBuilder(context);
+        appendConditions(builder, root, null, where);
+        templates.put(key, builder.getSql());
+        return new CompiledQuery(builder.getSql(), builder.getParameters());
+    }
+
+    private static void appendConditions(StatementBuilder builder, Condition root, String keyset, boolean where) {
+        List<Condition> conjuncts = root instanceof AllOfCondition all ? all.getConditions() : root == ConstantCondition.TRUE ? List.of() : List.of(root);
+        String first = where ? " WHERE " : "";
+        for (int i = 0; i < conjuncts.size(); i++) {
+            builder.append(i == 0 ? first + "(" : " AND (");
+            conjuncts.get(i).appendSql(builder);
             builder.append(")");
         }
+        if (keyset != null) builder.append(conjuncts.isEmpty() ? first : " AND ").append(keyset);
+    }
+
+    /**
+     * Compiles this query into an SQL template, binding the values of its conditions as parameters. Conditions are
+     * normalized first (see {@link Condition#normalize()}), and templates are cached by the shape of the query, so
+     * queries that only differ by their values don't generate the same SQL again. If a primary key is given, the
+     * statement paginates by keys the same way {@link #toSqlCode(String, Collection, String)} does, and values of the
+     * cursor should be bound after {@link CompiledQuery#parameters()}.
+     * @param context Context of the table that is using this query.
+     * @param columns Names of the columns to select. An empty collection selects every column.
+     * @param primaryKeyName Name of the primary key column, or {@code null} not to paginate by keys.
+     * @return Compiled query.
+     * @since 1.2
+     */
+    public CompiledQuery compile(StatementContext context, Collection<String> columns, String primaryKeyName) {
+        Condition root = new AllOfCondition(conditions).normalize();
+        List<Object> key = Arrays.asList(context, context.getInListThreshold(), List.copyOf(columns), primaryKeyName, root.shape(context), List.copyOf(sorts), limit, skip, cursor != null);
+        String template = templates.get(key);
+        CacheEvent.emit(CacheEvent.TEMPLATE, context.getTableName(), template, template != null);
+        if (template != null) {
+            List<Object> parameters = new ArrayList<>();
+            root.collectParameters(context, parameters);
+            return new CompiledQuery(template, parameters);
+        }
+
+        StatementBuilder builder = new StatementBuilder(context);
+        builder.append("SELECT ").append(columns.isEmpty() ? "*" : String.join(", ", columns)).append(" FROM ").append(context.getTableName());
+        List<Sort> order = getOrder(primaryKeyName);
+        appendConditions(builder, root, primaryKeyName != null && cursor != null ? toKeysetSqlCode(order) : null, true);
+        builder.append(toOrderSqlCode(order));
+        String sql = builder.getSql();
+        templates.put(key, sql);
+        return new CompiledQuery(sql, builder.getParameters());
+    }
+
+    private List<Sort> getOrder(String primaryKeyName) {
+        List<Sort> order = new ArrayList<>(sorts);
+        if (primaryKeyName != null)
+            order.add(new Sort(primaryKeyName, sorts.isEmpty() || sorts.get(sorts.size() - 1).ascending()));
+        return order;
+    }
 
-        for (Sort sort : getSorts()) {
-            builder.append(" ORDER BY ");
+    private String toOrderSqlCode(List<Sort> order) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < order.size(); i++) {
+            Sort sort = order.get(i);
+            builder.append(i == 0 ? " ORDER BY " : ", ");
             builder.append(sort.fieldName());
             if (sort.ascending()) builder.append(" ASC");
             else builder.append(" DESC");
         }
 
-
         if (limit != 0) {
             builder.append(" LIMIT ");
             builder.append(limit);
@@ -172,4 +398,54 @@ public class Query {
         return builder.toString();
     }
 
+    /**
+     * Generates an SQL statement that this {@link Query} represents.
+     * @param tableName Name of the table that is using this query.
+     * @return Generated query.
+     */
+    public String toSqlCode(String tableName) {
+        return toSqlCode(tableName, selection);
+    }
+
+    /**
+     * Generates an SQL statement that this {@link Query} represents, selecting the given columns instead of the
+     * selection of this query.
+     * @param tableName Name of the table that is using this query.
+     * @param columns Names of the columns to select. An empty collection selects every column.
+     * @return Generated query.
+     * @since 1.2
+     */
+    public String toSqlCode(String tableName, Collection<String> columns) {
+        return toSqlCode(tableName, columns, null);
+    }
+
+    /**
+     * Generates an SQL statement that this {@link Query} represents, paginating by keys if a primary key is given.
+     * Keyset statements are also ordered by the primary key, and if this query has a cursor, they only return the rows
+     * after it using {@code ?} parameters. Values to bind to these parameters can be found using
+     * {@link #getCursorParameterOrder()}.
+     * @param tableName Name of the table that is using this query.
+     * @param columns Names of the columns to select. An empty collection selects every column.
+     * @param primaryKeyName Name of the primary key column, or {@code null} not to paginate by keys.
+     * @return Generated query.
+     * @since 1.2
+     */
+    public String toSqlCode(String tableName, Collection<String> columns, String primaryKeyName) {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append("SELECT ");
+        builder.append(columns.isEmpty() ? "*" : String.join(", ", columns));
+        builder.append(" FROM ");
+        builder.append(tableName);
+        builder.append(toConditionSqlCode(conditions));
+
+        List<Sort> order = getOrder(primaryKeyName);
+        if (primaryKeyName != null && cursor != null) {
+            builder.append(conditions.isEmpty() ? " WHERE " : " AND ");
+            builder.append(toKeysetSqlCode(order));
+        }
+        builder.append(toOrderSqlCode(order));
+        return builder.toString();
+    }
+
 }
\ No newline at end of file
@@ -24,6 +24,8 @@
 
 package dev.efekos.simple_ql.query;
 
+import java.util.List;
+
 /**
  * A class used to create a {@link Query} with ease. It is possible to construct a {@link Query} in one line using this
  * class, no matter how complicated the created {@link Query} is.
@@ -71,6 +73,33 @@ public class QueryBuilder {
         return this;
     }
 
+    /**
+     * Narrows the fields/columns the final {@link Query} loads, so wide rows can be listed without reading and decoding
+     * columns that aren't needed. The primary key is always loaded, and the rest of the fields are left unloaded.
+     * @param fieldNames Names of the fields/columns to load.
+     * @return {@code this}.
+     * @since 1.2
+     */
+    public QueryBuilder select(String... fieldNames) {
+        query.setSelection(List.of(fieldNames));
+        return this;
+    }
+
+    /**
+     * Makes the final {@link Query} only return the rows after the given row in the order of its sorts, also known as
+     * keyset pagination. Unlike {@link #skip(int)}, the database can seek to the position using an index instead of
+     * reading every skipped row. Should be called after adding every sort.
+     * @param primaryKey Primary key of the last row seen.
+     * @param sortValues Values of the sort fields of the last row seen, in the order the sorts were added. Should not
+     *                   be {@code null}.
+     * @return {@code this}.
+     * @since 1.2
+     */
+    public QueryBuilder after(Object primaryKey, Object... sortValues) {
+        query.setCursor(new Cursor(List.of(sortValues), primaryKey));
+        return this;
+    }
+
     /**
      * Changes the limit of the final {@link Query}. Setting this to something more than {@code 0} will create a
      * {@code LIMIT} statement.
@@ -94,6 +123,17 @@ public class QueryBuilder {
         return this;
     }
 
+    /**
+     * Changes the amount of seconds the final {@link Query} can run for before it is cancelled.
+     * @param seconds Timeout in seconds, or {@code 0} to use the default timeout of the database.
+     * @return {@code this}.
+     * @since 1.2
+     */
+    public QueryBuilder timeout(int seconds) {
+        query.setTimeout(seconds);
+        return this;
+    }
+
     /**
      * Returns the final {@link Query}.
      * @return Final {@link Query}.
@@ -24,7 +24,9 @@
 
 package dev.efekos.simple_ql.query;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * One of the builtin condition types to use in {@link Query}s. Checks for a number to be in a specific range where both
@@ -36,10 +38,13 @@ public class RangeCondition implements Condition {
 
     private final Integer start;
     private final Integer end;
+    private final boolean startInclusive;
+    private final boolean endInclusive;
     private final String fieldName;
 
     /**
-     * Constructs a new {@link RangeCondition}.
+     * Constructs a new {@link RangeCondition}. Both edges are inclusive if the range has both a start and an end, and
+     * exclusive otherwise.
      * @param start Start of the range. Can be {@code null} to imply infinity in the left direction.
      * @param end End of the range. Can be {@code null} to imply infinity in the right direction.
      * @param fieldName Name of the field/column that this condition will check on. Used for SQL code generation.
@@ -47,11 +52,101 @@ public class RangeCondition implements Condition {
      *                                  larger than {@code end}.
      */
     public RangeCondition(Integer start, Integer end, String fieldName) {
+        this(start, start != null && end != null, end, start != null && end != null, fieldName);
+    }
+
+    /**
+     * Constructs a new {@link RangeCondition} with explicit edges.
+     * @param start Start of the range. Can be {@code null} to imply infinity in the left direction.
+     * @param startInclusive Whether values equal to {@code start} are in the range.
+     * @param end End of the range. Can be {@code null} to imply infinity in the right direction.
+     * @param endInclusive Whether values equal to {@code end} are in the range.
+     * @param fieldName Name of the field/column that this condition will check on. Used for SQL code generation.
+     * @throws IllegalArgumentException If both {@code start} and {@code end} are {@code null}, or the range is empty.
+     * @since 1.2
+     */
+    public RangeCondition(Integer start, boolean startInclusive, Integer end, boolean endInclusive, String fieldName) {
         this.start = start;
         this.end = end;
+        this.startInclusive = start != null && startInclusive;
+        this.endInclusive = end != null && endInclusive;
         this.fieldName = fieldName;
         if (start == null && end == null) throw new IllegalArgumentException("start and end must not be null");
         if ((start != null && end != null) && start > end) throw new IllegalArgumentException("start > end");
+        if (Objects.equals(start, end) && !(startInclusive && endInclusive)) throw new IllegalArgumentException("range is empty");
+    }
+
+    /**
+     * Returns the name of the field/column this condition checks on.
+     * @return Field name.
+     * @since 1.2
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Returns the start of the range.
+     * @return Start of the range, or {@code null} if the range has no start.
+     * @since 1.2
+     */
+    public Integer getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end of the range.
+     * @return End of the range, or {@code null} if the range has no end.
+     * @since 1.2
+     */
+    public Integer getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns whether values equal to the start are in the range.
+     * @return Whether the start is inclusive.
+     * @since 1.2
+     */
+    public boolean isStartInclusive() {
+        return startInclusive;
+    }
+
+    /**
+     * Returns whether values equal to the end are in the range.
+     * @return Whether the end is inclusive.
+     * @since 1.2
+     */
+    public boolean isEndInclusive() {
+        return endInclusive;
+    }
+
+    /**
+     * Creates a condition that matches the values in both this range and the given one.
+     * @param other A range on the same field/column.
+     * @return Intersection of the ranges, or {@link ConstantCondition#FALSE} if they don't intersect.
+     * @throws IllegalArgumentException if the ranges are on different fields/columns.
+     * @since 1.2
+     */
+    public Condition intersect(RangeCondition other) {
+        if (!fieldName.equals(other.fieldName)) throw new IllegalArgumentException("Ranges must be on the same field");
+        Integer newStart = start;
+        boolean newStartInclusive = startInclusive;
+        if (newStart == null || (other.start != null && other.start > newStart)) {
+            newStart = other.start;
+            newStartInclusive = other.startInclusive;
+        } else if (other.start != null && other.start.equals(newStart)) newStartInclusive &= other.startInclusive;
+
+        Integer newEnd = end;
+        boolean newEndInclusive = endInclusive;
+        if (newEnd == null || (other.end != null && other.end < newEnd)) {
+            newEnd = other.end;
+            newEndInclusive = other.endInclusive;
+        } else if (other.end != null && other.end.equals(newEnd)) newEndInclusive &= other.endInclusive;
+
+        if (newStart != null && newEnd != null && (newStart > newEnd || (newStart.equals(newEnd) && !(newStartInclusive && newEndInclusive))))
+            return ConstantCondition.FALSE;
+        return new RangeCondition(newStart, newStartInclusive, newEnd, newEndInclusive, fieldName);
     }
 
     /**
@@ -62,6 +157,8 @@ public class RangeCondition implements Condition {
         return "RangeCondition{" +
                 "start=" + start +
                 ", end=" + end +
+                ", startInclusive=" + startInclusive +
+                ", endInclusive=" + endInclusive +
                 ", fieldName='" + fieldName + '\'' +
                 '}';
     }
@@ -74,11 +171,96 @@ public class RangeCondition implements Condition {
         StringBuilder builder = new StringBuilder();
         builder.append(fieldName);
 
-        if (Objects.equals(start, end)) builder.append(" = ").append(start);
-        else if (start != null && end != null) builder.append(" BETWEEN ").append(start).append(" AND ").append(end);
-        else if (start != null) builder.append(" > ").append(start);
-        else builder.append(" < ").append(end);
+        if (isExact()) builder.append(" = ").append(start);
+        else if (isBetween()) builder.append(" BETWEEN ").append(start).append(" AND ").append(end);
+        else {
+            if (start != null) builder.append(startInclusive ? " >= " : " > ").append(start);
+            if (start != null && end != null) builder.append(" AND ").append(fieldName);
+            if (end != null) builder.append(endInclusive ? " <= " : " < ").append(end);
+        }
         return builder.toString();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        builder.append(fieldName);
+
+        if (isExact()) builder.append(" = ").appendParameter(start);
+        else if (isBetween()) builder.append(" BETWEEN ").appendParameter(start).append(" AND ").appendParameter(end);
+        else {
+            if (start != null) builder.append(startInclusive ? " >= " : " > ").appendParameter(start);
+            if (start != null && end != null) builder.append(" AND ").append(fieldName);
+            if (end != null) builder.append(endInclusive ? " <= " : " < ").appendParameter(end);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        if (start != null) parameters.add(start);
+        if (end != null && !isExact()) parameters.add(end);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(RangeCondition.class, fieldName, isExact(), start != null, startInclusive, end != null, endInclusive);
+    }
+
+    private boolean isExact() {
+        return start != null && start.equals(end);
+    }
+
+    private boolean isBetween() {
+        return start != null && end != null && startInclusive && endInclusive;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        Function<T, Object> column = columns.column(fieldName);
+        return row -> {
+            Object columnValue = column.apply(row);
+            if (columnValue == null) return null;
+            double number;
+            if (columnValue instanceof Number n) number = n.doubleValue();
+            else if (columnValue instanceof Boolean b) number = b ? 1 : 0;
+            else try {
+                number = Double.parseDouble(columnValue.toString());
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            if (start != null && (startInclusive ? number < start : number <= start)) return false;
+            return end == null || (endInclusive ? number <= end : number < end);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RangeCondition that = (RangeCondition) o;
+        return startInclusive == that.startInclusive && endInclusive == that.endInclusive && Objects.equals(start, that.start) && Objects.equals(end, that.end) && Objects.equals(fieldName, that.fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, startInclusive, endInclusive, fieldName);
+    }
+
 }
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the SQL template of a statement along with the values of its {@code ?} parameters. Used by
+ * {@link Condition#appendSql(StatementBuilder)} so values are bound to the statement instead of being written into it,
+ * which lets statements of the same shape share one SQL string.
+ * @since 1.2
+ */
+public final class StatementBuilder {
+
+    private final StringBuilder sql = new StringBuilder();
+    private final List<Object> parameters = new ArrayList<>();
+    private final StatementContext context;
+
+    /**
+     * Constructs a new builder for a statement of a table.
+     * @param context Context of the table, or {@code null} if the statement isn't for a specific table.
+     */
+    public StatementBuilder(StatementContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Constructs a new builder for a statement that isn't for a specific table.
+     */
+    public StatementBuilder() {
+        this(null);
+    }
+
+    /**
+     * Returns the context of the table this statement is for.
+     * @return Context of the table, or {@code null} if the statement isn't for a specific table.
+     */
+    public StatementContext getContext() {
+        return context;
+    }
+
+    /**
+     * Appends SQL code to the template.
+     * @param code SQL code. Must not contain values that differ between statements of the same shape.
+     * @return {@code this}.
+     */
+    public StatementBuilder append(String code) {
+        sql.append(code);
+        return this;
+    }
+
+    /**
+     * Appends a {@code ?} parameter to the template, and adds its value to the parameters.
+     * @param value Value of the parameter.
+     * @return {@code this}.
+     */
+    public StatementBuilder appendParameter(Object value) {
+        sql.append('?');
+        parameters.add(value);
+        return this;
+    }
+
+    /**
+     * Returns the SQL template built so far.
+     * @return SQL template with {@code ?} parameters.
+     */
+    public String getSql() {
+        return sql.toString();
+    }
+
+    /**
+     * Returns the values of the parameters added so far, in the order they appear in the template.
+     * @return Parameter values.
+     */
+    public List<Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "StatementBuilder{" +
+                "sql=" + sql +
+                ", parameters=" + parameters +
+                '}';
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.query;
+
+import dev.efekos.simple_ql.data.DatabaseType;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Describes the table a statement is generated for, so conditions can generate SQL that suits the table and its
+ * database in {@link Condition#appendSql(StatementBuilder)}. Every {@link dev.efekos.simple_ql.data.Table} provides
+ * its own context.
+ * @since 1.2
+ */
+public interface StatementContext {
+
+    /**
+     * Returns the name of the table.
+     * @return Table name.
+     */
+    String getTableName();
+
+    /**
+     * Returns the type of the database the table is in.
+     * @return Database type, or {@code null} if it is not known.
+     */
+    DatabaseType getDatabaseType();
+
+    /**
+     * Returns the names of the fields/columns marked {@link dev.efekos.simple_ql.annotation.Searchable}.
+     * @return Searchable field names.
+     */
+    List<String> getSearchableFields();
+
+    /**
+     * Returns the name of the full-text index table of the table, if the database maintains one.
+     * @return Name of the full-text table, or an empty {@link Optional} if full-text searches should fall back to
+     * {@code LIKE}.
+     */
+    Optional<String> getFullTextTableName();
+
+    /**
+     * Returns the name of the primary key column of the table.
+     * @return Primary key column name.
+     */
+    String getPrimaryKeyName();
+
+    /**
+     * Returns the column of the full-text table that holds the primary key of the row each of its entries was made
+     * from. Only used when {@link #getFullTextTableName()} is present.
+     * @return Key column of the full-text table, {@code "rowid"} if the full-text table uses the primary key as its
+     * rowid.
+     */
+    String getFullTextKeyColumn();
+
+    /**
+     * Checks whether a column is the first column of an index that covers every row, so the database can look up
+     * ranges of its values without scanning the whole table.
+     * @param fieldName Name of the field/column.
+     * @return Whether the column is indexed, {@code false} if there is no such column.
+     */
+    boolean isIndexed(String fieldName);
+
+    /**
+     * Returns the SQL type the column was declared with, including its collation if it has one.
+     * @param fieldName Name of the field/column.
+     * @return SQL column type, or {@code null} if there is no such column.
+     */
+    String getColumnType(String fieldName);
+
+    /**
+     * Returns the amount of values a one-of condition can list in a single {@code IN (...)}, see
+     * {@link dev.efekos.simple_ql.data.Database#getInListThreshold()}.
+     * @return {@code IN} list threshold.
+     */
+    int getInListThreshold();
+
+}
@@ -24,6 +24,11 @@
 
 package dev.efekos.simple_ql.query;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
 /**
  * One of the builtin conditions types to use in {@link Query}s. Checks if a {@code VARCHAR}/{@code TEXT} field contains
  * a {@link String}.
@@ -52,6 +57,59 @@ public class StringContainsCondition implements Condition {
         return fieldName + " LIKE '%" + value + "%'";
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        builder.append(fieldName).append(" LIKE ").appendParameter("%" + value + "%");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        parameters.add("%" + value + "%");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(StringContainsCondition.class, fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        Function<T, Object> column = columns.column(fieldName);
+        Pattern pattern = LikePatterns.compile("%" + value + "%");
+        return row -> LikePatterns.matches(pattern, column.apply(row));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StringContainsCondition that = (StringContainsCondition) o;
+        return Objects.equals(value, that.value) && Objects.equals(fieldName, that.fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, value);
+    }
+
     /**
      * {@inheritDoc}
      */
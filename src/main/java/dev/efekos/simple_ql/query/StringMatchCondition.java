@@ -24,6 +24,10 @@
 
 package dev.efekos.simple_ql.query;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
 /**
  * A condition type used for {@link String} fields / {@code TEXT} and {@code VARCHAR} columns. Checks if a column is
  * equal to aa specific value.
@@ -52,6 +56,61 @@ public class StringMatchCondition implements Condition {
         return fieldName + " = '" + value + "'";
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        builder.append(fieldName).append(" = ").appendParameter(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        parameters.add(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(StringMatchCondition.class, fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        Function<T, Object> column = columns.column(fieldName);
+        return row -> {
+            Object columnValue = column.apply(row);
+            return columnValue == null || value == null ? null : value.equals(columnValue.toString());
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StringMatchCondition that = (StringMatchCondition) o;
+        return Objects.equals(value, that.value) && Objects.equals(fieldName, that.fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,11 +24,24 @@
 
 package dev.efekos.simple_ql.query;
 
+import dev.efekos.simple_ql.data.DatabaseType;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * A condition type used for {@link String} fields / {@code TEXT} and {@code VARCHAR} columns. Checks if an array of
  * {@link String}s contain the value of a column using the SQL {@code IN} statement.
+ * <p>
+ * Values are bound as parameters, and the list is padded by repeating its last value so lists of similar sizes share
+ * one statement. Lists longer than {@link StatementContext#getInListThreshold()} are bound as a single JSON array
+ * parameter instead, read using {@code json_each} on SQLite and {@code JSON_TABLE} on MySQL, so every such list shares
+ * one statement without padding and stays under {@link DatabaseType#getMaxParameters()}. On MySQL, values read from
+ * the array are compared using the {@code utf8mb4_bin} collation, which matches them exactly like
+ * {@link #toMatcher(ColumnAccessor)} does, even if the column itself ignores case.
  * @since 1.0
  */
 public class StringOneOfCondition implements Condition {
@@ -54,6 +67,139 @@ public class StringOneOfCondition implements Condition {
         return fieldName + " IN (" + String.join(",", value.stream().map(s -> "'" + s + "'").toList()) + ")";
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        int size = paddedSize();
+        if (size == 0) {
+            builder.append(ConstantCondition.FALSE.toSqlCode());
+            return;
+        }
+        StatementContext context = builder.getContext();
+        if (usesJsonArray(context)) {
+            if (context.getDatabaseType() == DatabaseType.SQLITE)
+                builder.append(fieldName).append(" IN (SELECT value FROM json_each(").appendParameter(toJsonArray()).append("))");
+            else
+                builder.append(fieldName).append(" IN (SELECT json_values.value FROM JSON_TABLE(").appendParameter(toJsonArray()).append(", '$[*]' COLUMNS (value TEXT PATH '$')) AS json_values)");
+            return;
+        }
+        builder.append(fieldName).append(" IN (");
+        for (int i = 0; i < size; i++) {
+            if (i != 0) builder.append(",");
+            builder.appendParameter(paddedValue(i));
+        }
+        builder.append(")");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        if (usesJsonArray(context)) {
+            parameters.add(toJsonArray());
+            return;
+        }
+        int size = paddedSize();
+        for (int i = 0; i < size; i++) parameters.add(paddedValue(i));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(StringOneOfCondition.class, fieldName, paddedSize());
+    }
+
+    /**
+     * {@inheritDoc} Leaves the size of the list out when it is bound as a JSON array, since the statement is the same
+     * for every size then.
+     */
+    @Override
+    public Object shape(StatementContext context) {
+        return usesJsonArray(context) ? List.of(StringOneOfCondition.class, fieldName) : shape();
+    }
+
+    /**
+     * Checks whether the values are bound as a single JSON array in the given context instead of an {@code IN} list.
+     */
+    private boolean usesJsonArray(StatementContext context) {
+        return context != null && !value.isEmpty() && paddedSize() > context.getInListThreshold();
+    }
+
+    /**
+     * Returns the amount of values the {@code IN} list is padded to. Small lists keep their size, larger ones are
+     * rounded up to the next quarter of a power of two, so padding adds less than a quarter of the values.
+     */
+    private int paddedSize() {
+        int size = value.size();
+        if (size <= 8) return size;
+        int step = Integer.highestOneBit(size - 1) / 4;
+        return (size + step - 1) / step * step;
+    }
+
+    private String paddedValue(int index) {
+        return value.get(Math.min(index, value.size() - 1));
+    }
+
+    private String toJsonArray() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < value.size(); i++) {
+            if (i != 0) builder.append(',');
+            builder.append('"');
+            for (char c : value.get(i).toCharArray()) {
+                switch (c) {
+                    case '"' -> builder.append("\\\"");
+                    case '\\' -> builder.append("\\\\");
+                    case '\n' -> builder.append("\\n");
+                    case '\r' -> builder.append("\\r");
+                    case '\t' -> builder.append("\\t");
+                    default -> {
+                        if (c < 0x20) builder.append(String.format("\\u%04x", (int) c));
+                        else builder.append(c);
+                    }
+                }
+            }
+            builder.append('"');
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        Function<T, Object> column = columns.column(fieldName);
+        Set<String> values = new HashSet<>(value);
+        return row -> {
+            Object columnValue = column.apply(row);
+            return columnValue == null ? null : values.contains(columnValue.toString());
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StringOneOfCondition that = (StringOneOfCondition) o;
+        return Objects.equals(fieldName, that.fieldName) && Objects.equals(value, that.value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,11 +24,17 @@
 
 package dev.efekos.simple_ql.query;
 
-import java.util.regex.Matcher;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
- * A condition type used to be the {@link Condition} equivalent of {@link Matcher#matches()}. Checks if a {@code TEXT}
- * or a {@code VARCHAR} column matches a specific regular expression using the SQL {@code REGEXP} statement.
+ * A condition type used to be the {@link Condition} equivalent of {@link java.util.regex.Matcher#find()}. Checks if a {@code TEXT}
+ * or a {@code VARCHAR} column matches a specific regular expression using the SQL {@code REGEXP} statement. Like
+ * {@code find()}, the expression matches any part of the value unless it is anchored with {@code ^} and {@code $}. SQLite does
+ * not implement {@code REGEXP} itself, so {@link dev.efekos.simple_ql.data.Database} registers a function using
+ * {@link Pattern} to SQLite connections, which requires the SQLite driver to be on the module path.
  * @since 1.0
  */
 public class StringRegexCondition implements Condition {
@@ -59,4 +65,60 @@ public class StringRegexCondition implements Condition {
                 '}';
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        builder.append(fieldName).append(" REGEXP ").appendParameter(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        parameters.add(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(StringRegexCondition.class, fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        Function<T, Object> column = columns.column(fieldName);
+        Pattern pattern = Pattern.compile(value);
+        return row -> {
+            Object columnValue = column.apply(row);
+            return columnValue == null ? null : pattern.matcher(columnValue.toString()).find();
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StringRegexCondition that = (StringRegexCondition) o;
+        return Objects.equals(value, that.value) && Objects.equals(fieldName, that.fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, value);
+    }
+
 }
@@ -24,9 +24,23 @@
 
 package dev.efekos.simple_ql.query;
 
+import dev.efekos.simple_ql.data.DatabaseType;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
- * A condition type used to be the {@link Condition} equivalent of {@link String#startsWith(String)}.
+ * A condition type used to be the {@link Condition} equivalent of {@link String#startsWith(String)}. Checks if a
+ * {@code TEXT} or a {@code VARCHAR} column starts with a specific value using the SQL {@code LIKE} statement, which
+ * ignores the case of ASCII letters.
+ * <p>
+ * SQLite can't use a regular index for a case-insensitive {@code LIKE}, so on SQLite, if the column is indexed and
+ * comparing it would give the same results, the condition is written as a range ({@code col >= 'abc' AND col < 'abd'})
+ * the index can be used for instead. That is when the column has a {@code COLLATE NOCASE} type (see
+ * {@link dev.efekos.simple_ql.annotation.Type}) or the value has no ASCII letters.
  * @since 1.0
  */
 public class StringStartsWithCondition implements Condition {
@@ -57,4 +71,122 @@ public class StringStartsWithCondition implements Condition {
                 '}';
     }
 
-}
\ No newline at end of file
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        List<String> bounds = findRange(builder.getContext());
+        if (bounds == null) {
+            builder.append(fieldName).append(" LIKE ").appendParameter(value + "%");
+            return;
+        }
+        builder.append(fieldName).append(" >= ").appendParameter(bounds.get(0));
+        if (bounds.size() > 1) builder.append(" AND ").append(fieldName).append(" < ").appendParameter(bounds.get(1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        List<String> bounds = findRange(context);
+        if (bounds == null) parameters.add(value + "%");
+        else parameters.addAll(bounds);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(StringStartsWithCondition.class, fieldName, rangeCompatible(true), rangeCompatible(false),
+                nextPrefix(value, false) != null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        Function<T, Object> column = columns.column(fieldName);
+        Pattern pattern = LikePatterns.compile(value + "%");
+        return row -> LikePatterns.matches(pattern, column.apply(row));
+    }
+
+    /**
+     * Finds the range this condition can be written as in the given context.
+     * @return The inclusive start and the exclusive end of the range, without an end if there is none, or {@code null}
+     * if the condition should use {@code LIKE}.
+     */
+    private List<String> findRange(StatementContext context) {
+        if (context == null || context.getDatabaseType() != DatabaseType.SQLITE || !context.isIndexed(fieldName)) return null;
+        String type = context.getColumnType(fieldName);
+        if (type == null) return null;
+        type = type.toUpperCase(Locale.ROOT);
+        if (!type.startsWith("TEXT") && !type.contains("CHAR")) return null;
+        boolean caseInsensitive = type.replaceAll("\\s+", " ").contains("COLLATE NOCASE");
+        if (!rangeCompatible(caseInsensitive)) return null;
+        String start = caseInsensitive ? lowerAscii(value) : value;
+        String end = nextPrefix(start, caseInsensitive);
+        return end == null ? List.of(start) : List.of(start, end);
+    }
+
+    /**
+     * Checks whether a range would find the same values {@code LIKE} does. {@code LIKE} treats {@code %} and {@code _} as
+     * wildcards and ignores the case of ASCII letters, while a range is only case-insensitive on a {@code NOCASE} column.
+     */
+    private boolean rangeCompatible(boolean caseInsensitive) {
+        if (value.isEmpty()) return false;
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_') return false;
+            if (!caseInsensitive && ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) return false;
+        }
+        return true;
+    }
+
+    private static String lowerAscii(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) builder.append(c >= 'A' && c <= 'Z' ? (char) (c + 32) : c);
+        return builder.toString();
+    }
+
+    /**
+     * Returns the smallest string greater than every string starting with {@code prefix}, incrementing its last code
+     * point. Skips uppercase ASCII letters if the column is {@code NOCASE}, since it compares them as lowercase ones.
+     * @return The next prefix, or {@code null} if there is none.
+     */
+    private static String nextPrefix(String prefix, boolean caseInsensitive) {
+        int end = prefix.length();
+        while (end > 0) {
+            int last = prefix.codePointBefore(end);
+            end -= Character.charCount(last);
+            if (last == Character.MAX_CODE_POINT) continue;
+            int next = last + 1;
+            if (next == Character.MIN_SURROGATE) next = Character.MAX_SURROGATE + 1;
+            if (caseInsensitive && next == 'A') next = 'Z' + 1;
+            return prefix.substring(0, end) + new String(Character.toChars(next));
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StringStartsWithCondition that = (StringStartsWithCondition) o;
+        return Objects.equals(value, that.value) && Objects.equals(fieldName, that.fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, value);
+    }
+
+}
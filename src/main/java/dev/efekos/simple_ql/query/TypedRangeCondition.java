@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.query;
+
+import dev.efekos.simple_ql.implementor.Implementor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A range condition for any {@link Comparable} type, such as {@link Long} timestamps or {@link Double} balances. Works
+ * like {@link RangeCondition}, but the bounds keep their type and are bound as parameters without losing precision.
+ * Custom types can be used through the {@link Implementor} of their column, as long as the values it writes sort the
+ * same way the objects do.
+ * @param <V> Type of the bounds.
+ * @since 1.2
+ */
+public class TypedRangeCondition<V extends Comparable<? super V>> implements Condition {
+
+    private final V start;
+    private final V end;
+    private final boolean startInclusive;
+    private final boolean endInclusive;
+    private final Implementor<V, ?> implementor;
+    private final String fieldName;
+
+    /**
+     * Constructs a new {@link TypedRangeCondition} for a column that stores {@link V}s as they are.
+     * @param start Start of the range. Can be {@code null} to imply infinity in the left direction.
+     * @param startInclusive Whether values equal to {@code start} are in the range.
+     * @param end End of the range. Can be {@code null} to imply infinity in the right direction.
+     * @param endInclusive Whether values equal to {@code end} are in the range.
+     * @param fieldName Name of the field/column that this condition will check on.
+     * @throws IllegalArgumentException If both {@code start} and {@code end} are {@code null}, or the range is empty.
+     */
+    public TypedRangeCondition(V start, boolean startInclusive, V end, boolean endInclusive, String fieldName) {
+        this(null, start, startInclusive, end, endInclusive, fieldName);
+    }
+
+    /**
+     * Constructs a new {@link TypedRangeCondition} for a column that stores {@link V}s using an {@link Implementor}.
+     * @param implementor Implementor of the column, used to write the bounds the way the column stores them. Can be
+     *                    {@code null} if the column stores {@link V}s as they are.
+     * @param start Start of the range. Can be {@code null} to imply infinity in the left direction.
+     * @param startInclusive Whether values equal to {@code start} are in the range.
+     * @param end End of the range. Can be {@code null} to imply infinity in the right direction.
+     * @param endInclusive Whether values equal to {@code end} are in the range.
+     * @param fieldName Name of the field/column that this condition will check on.
+     * @throws IllegalArgumentException If both {@code start} and {@code end} are {@code null}, or the range is empty.
+     */
+    public TypedRangeCondition(Implementor<V, ?> implementor, V start, boolean startInclusive, V end, boolean endInclusive, String fieldName) {
+        this.implementor = implementor;
+        this.start = start;
+        this.end = end;
+        this.startInclusive = start != null && startInclusive;
+        this.endInclusive = end != null && endInclusive;
+        this.fieldName = fieldName;
+        if (start == null && end == null) throw new IllegalArgumentException("start and end must not be null");
+        if (start != null && end != null) {
+            int comparison = start.compareTo(end);
+            if (comparison > 0) throw new IllegalArgumentException("start > end");
+            if (comparison == 0 && !(startInclusive && endInclusive)) throw new IllegalArgumentException("range is empty");
+        }
+    }
+
+    /**
+     * Returns the name of the field/column this condition checks on.
+     * @return Field name.
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Returns the start of the range.
+     * @return Start of the range, or {@code null} if the range has no start.
+     */
+    public V getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end of the range.
+     * @return End of the range, or {@code null} if the range has no end.
+     */
+    public V getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns whether values equal to the start are in the range.
+     * @return Whether the start is inclusive.
+     */
+    public boolean isStartInclusive() {
+        return startInclusive;
+    }
+
+    /**
+     * Returns whether values equal to the end are in the range.
+     * @return Whether the end is inclusive.
+     */
+    public boolean isEndInclusive() {
+        return endInclusive;
+    }
+
+    /**
+     * Checks whether this range can be intersected with the given one, which is when they are on the same field/column,
+     * have bounds of the same type and write them the same way.
+     * @param other Another range.
+     * @return Whether {@link #intersect(TypedRangeCondition)} accepts {@code other}.
+     */
+    public boolean isCompatible(TypedRangeCondition<?> other) {
+        return fieldName.equals(other.fieldName) && Objects.equals(implementor, other.implementor) && boundType() == other.boundType();
+    }
+
+    /**
+     * Creates a condition that matches the values in both this range and the given one.
+     * @param other A compatible range, see {@link #isCompatible(TypedRangeCondition)}.
+     * @return Intersection of the ranges, or {@link ConstantCondition#FALSE} if they don't intersect.
+     * @throws IllegalArgumentException if the ranges are not compatible.
+     */
+    @SuppressWarnings("unchecked")
+    public Condition intersect(TypedRangeCondition<?> other) {
+        if (!isCompatible(other)) throw new IllegalArgumentException("Ranges must be on the same field and of the same type");
+        TypedRangeCondition<V> that = (TypedRangeCondition<V>) other;
+
+        V newStart = start;
+        boolean newStartInclusive = startInclusive;
+        if (newStart == null || (that.start != null && that.start.compareTo(newStart) > 0)) {
+            newStart = that.start;
+            newStartInclusive = that.startInclusive;
+        } else if (that.start != null && that.start.compareTo(newStart) == 0) newStartInclusive &= that.startInclusive;
+
+        V newEnd = end;
+        boolean newEndInclusive = endInclusive;
+        if (newEnd == null || (that.end != null && that.end.compareTo(newEnd) < 0)) {
+            newEnd = that.end;
+            newEndInclusive = that.endInclusive;
+        } else if (that.end != null && that.end.compareTo(newEnd) == 0) newEndInclusive &= that.endInclusive;
+
+        if (newStart != null && newEnd != null) {
+            int comparison = newStart.compareTo(newEnd);
+            if (comparison > 0 || (comparison == 0 && !(newStartInclusive && newEndInclusive))) return ConstantCondition.FALSE;
+        }
+        return new TypedRangeCondition<>(implementor, newStart, newStartInclusive, newEnd, newEndInclusive, fieldName);
+    }
+
+    private Object write(V value) {
+        return implementor == null ? value : implementor.write(value);
+    }
+
+    private Class<?> boundType() {
+        return start != null ? start.getClass() : end.getClass();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "TypedRangeCondition{" +
+                "start=" + start +
+                ", end=" + end +
+                ", startInclusive=" + startInclusive +
+                ", endInclusive=" + endInclusive +
+                ", fieldName='" + fieldName + '\'' +
+                '}';
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toSqlCode() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(fieldName);
+
+        if (isExact()) builder.append(" = ").append(toLiteral(start));
+        else if (isBetween()) builder.append(" BETWEEN ").append(toLiteral(start)).append(" AND ").append(toLiteral(end));
+        else {
+            if (start != null) builder.append(startInclusive ? " >= " : " > ").append(toLiteral(start));
+            if (start != null && end != null) builder.append(" AND ").append(fieldName);
+            if (end != null) builder.append(endInclusive ? " <= " : " < ").append(toLiteral(end));
+        }
+        return builder.toString();
+    }
+
+    private String toLiteral(V value) {
+        Object written = write(value);
+        if (written instanceof Number || written instanceof Boolean) return written.toString();
+        return "'" + written.toString().replace("'", "''") + "'";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendSql(StatementBuilder builder) {
+        builder.append(fieldName);
+
+        if (isExact()) builder.append(" = ").appendParameter(write(start));
+        else if (isBetween()) builder.append(" BETWEEN ").appendParameter(write(start)).append(" AND ").appendParameter(write(end));
+        else {
+            if (start != null) builder.append(startInclusive ? " >= " : " > ").appendParameter(write(start));
+            if (start != null && end != null) builder.append(" AND ").append(fieldName);
+            if (end != null) builder.append(endInclusive ? " <= " : " < ").appendParameter(write(end));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void collectParameters(StatementContext context, List<Object> parameters) {
+        if (start != null) parameters.add(write(start));
+        if (end != null && !isExact()) parameters.add(write(end));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object shape() {
+        return List.of(TypedRangeCondition.class, fieldName, isExact(), start != null, startInclusive, end != null, endInclusive);
+    }
+
+    private boolean isExact() {
+        return start != null && end != null && start.compareTo(end) == 0;
+    }
+
+    private boolean isBetween() {
+        return start != null && end != null && startInclusive && endInclusive;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Matcher<T> toMatcher(ColumnAccessor<T> columns) {
+        Function<T, Object> column = columns.column(fieldName);
+        Object writtenStart = start == null ? null : write(start);
+        Object writtenEnd = end == null ? null : write(end);
+        return row -> {
+            Object columnValue = column.apply(row);
+            if (columnValue == null) return null;
+            if (writtenStart != null) {
+                Integer comparison = compare(columnValue, writtenStart);
+                if (comparison == null || (startInclusive ? comparison < 0 : comparison <= 0)) return false;
+            }
+            if (writtenEnd != null) {
+                Integer comparison = compare(columnValue, writtenEnd);
+                return comparison != null && (endInclusive ? comparison <= 0 : comparison < 0);
+            }
+            return true;
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Integer compare(Object value, Object bound) {
+        if (value.getClass() == bound.getClass() && value instanceof Comparable comparable) return comparable.compareTo(bound);
+        if (value instanceof Number a && bound instanceof Number b) {
+            if (isIntegral(a) && isIntegral(b)) return Long.compare(a.longValue(), b.longValue());
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+        return null;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TypedRangeCondition<?> that = (TypedRangeCondition<?>) o;
+        return startInclusive == that.startInclusive && endInclusive == that.endInclusive && Objects.equals(start, that.start) && Objects.equals(end, that.end) && Objects.equals(implementor, that.implementor) && Objects.equals(fieldName, that.fieldName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, startInclusive, endInclusive, fieldName);
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.thread;
+
+import java.util.Arrays;
+
+/**
+ * Chooses the batch size and flush interval of a {@link WriteQueue} using additive-increase/multiplicative-decrease.
+ * The execution time of every batch is divided between its actions, and the shares are kept in a fixed window. Time
+ * actions spend waiting in the queue isn't included, since a backlog is a reason to batch more, not less. After every
+ * batch, the batch size grows by a fixed step as long as the queue has enough actions waiting to fill it. Otherwise, if
+ * the 99th percentile of the window is above the target, both values are halved, and if it isn't, the flush interval
+ * grows by a fixed step. Only used by the thread of the queue.
+ *
+ * @since 1.2
+ */
+final class AdaptiveBatchSizer {
+
+    private static final int WINDOW = 256;
+    private static final int BATCH_SIZE_STEP = 8;
+    private static final long FLUSH_INTERVAL_STEP = 250_000L;
+
+    private final long[] latencies = new long[WINDOW];
+    private final long[] sorted = new long[WINDOW];
+    private int samples;
+    private int next;
+    private volatile long targetLatency = 50_000_000L;
+    private volatile int maxBatchSize = 500;
+    private volatile long maxFlushInterval = 5_000_000L;
+    private volatile int batchSize = 1;
+    private volatile long flushInterval = 0;
+    private volatile long p99;
+
+    /**
+     * Records the execution time of a batch, as an equal share for each of its actions.
+     *
+     * @param nanos   Time it took to execute the batch, in nanoseconds.
+     * @param actions Amount of actions in the batch.
+     */
+    void record(long nanos, int actions) {
+        long share = nanos / actions;
+        for (int i = 0; i < Math.min(actions, WINDOW); i++) {
+            latencies[next] = share;
+            next = (next + 1) % WINDOW;
+        }
+        samples = Math.min(WINDOW, samples + actions);
+    }
+
+    /**
+     * Adjusts the batch size and flush interval after a batch is executed.
+     *
+     * @param queueDepth Amount of actions waiting in the queue.
+     */
+    void adjust(int queueDepth) {
+        if (samples == 0) return;
+        System.arraycopy(latencies, 0, sorted, 0, samples);
+        Arrays.sort(sorted, 0, samples);
+        long p99 = sorted[Math.min(samples - 1, (int) Math.ceil(samples * 0.99) - 1)];
+        this.p99 = p99;
+
+        if (queueDepth >= batchSize) {
+            batchSize = Math.min(maxBatchSize, batchSize + BATCH_SIZE_STEP);
+            return;
+        }
+        if (p99 > targetLatency) {
+            batchSize = Math.max(1, batchSize / 2);
+            flushInterval = flushInterval / 2;
+            return;
+        }
+        flushInterval = Math.min(Math.min(maxFlushInterval, targetLatency / 4), flushInterval + FLUSH_INTERVAL_STEP);
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    long getFlushInterval() {
+        return flushInterval;
+    }
+
+    long getP99() {
+        return p99;
+    }
+
+    void setTargetLatency(long nanos) {
+        this.targetLatency = nanos;
+    }
+
+    long getTargetLatency() {
+        return targetLatency;
+    }
+
+    void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        if (batchSize > maxBatchSize) batchSize = maxBatchSize;
+    }
+
+    int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    void setMaxFlushInterval(long nanos) {
+        this.maxFlushInterval = nanos;
+        if (flushInterval > nanos) flushInterval = nanos;
+    }
+
+    long getMaxFlushInterval() {
+        return maxFlushInterval;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.thread;
+
+/**
+ * Decides what a {@link WriteQueue} does with new actions once it holds as many actions as its high-water mark.
+ *
+ * @since 1.2
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The thread submitting the action waits until there is room in the queue.
+     */
+    BLOCK,
+
+    /**
+     * Submitting the action fails with a {@link dev.efekos.simple_ql.exception.WriteQueueFullException}.
+     */
+    FAIL,
+
+    /**
+     * The action is written into a memory-mapped spill file, and read back into the queue once the queue drains. Falls
+     * back to {@link #BLOCK} if the spill file is full or the action can't be written into a file.
+     */
+    SPILL
+
+}
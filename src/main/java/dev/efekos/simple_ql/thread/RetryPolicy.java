@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.thread;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides how many times and how often a {@link WriteQueue} executes an action again after it fails with a transient
+ * error (see {@link TransientErrors#isTransient(java.sql.SQLException)}). The wait before each retry doubles after
+ * every attempt until it reaches the maximum, and a random part of up to half of it is taken away so that retries of
+ * different processes don't line up.
+ *
+ * @param maxAttempts    Maximum amount of times an action is executed, including the first attempt.
+ * @param initialBackoff Wait before the first retry.
+ * @param maxBackoff     Longest wait before a retry.
+ * @since 1.2
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+    /**
+     * Default policy of {@link WriteQueue}s: 5 attempts, starting at 50 milliseconds and waiting at most 5 seconds.
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(5, Duration.ofMillis(50), Duration.ofSeconds(5));
+
+    /**
+     * A policy that never retries.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO);
+
+    /**
+     * Creates a new policy.
+     *
+     * @param maxAttempts    Maximum amount of times an action is executed, including the first attempt.
+     * @param initialBackoff Wait before the first retry.
+     * @param maxBackoff     Longest wait before a retry.
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive or a backoff is negative.
+     */
+    public RetryPolicy {
+        if (maxAttempts <= 0) throw new IllegalArgumentException("Maximum attempts must be greater than 0");
+        if (initialBackoff.isNegative() || maxBackoff.isNegative())
+            throw new IllegalArgumentException("Backoff must not be negative");
+    }
+
+    /**
+     * Returns how long to wait before retrying after the given attempt failed.
+     *
+     * @param attempt Number of the failed attempt, starting from {@code 1}.
+     * @return Wait before the next attempt.
+     */
+    public Duration backoff(int attempt) {
+        long initial = initialBackoff.toNanos();
+        long max = maxBackoff.toNanos();
+        long backoff = initial;
+        for (int i = 1; i < attempt && backoff < max; i++) backoff *= 2;
+        backoff = Math.min(backoff, max);
+        if (backoff <= 1) return Duration.ofNanos(backoff);
+        return Duration.ofNanos(backoff - ThreadLocalRandom.current().nextLong(backoff / 2));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", initialBackoff=" + initialBackoff +
+                ", maxBackoff=" + maxBackoff +
+                '}';
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.thread;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A ring buffer of byte records backed by a memory-mapped file, used by {@link WriteQueue}s to keep actions that don't
+ * fit into memory. Records are read back in the order they were written. Read and write positions are only kept in
+ * memory, so spilled records don't survive a restart.
+ *
+ * @since 1.2
+ */
+final class SpillFile implements Closeable {
+
+    private final Path path;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private final int capacity;
+    private long head;
+    private long tail;
+    private int count;
+
+    /**
+     * Creates the spill file, replacing the file if it already exists.
+     *
+     * @param path     Path of the file.
+     * @param capacity Size of the file in bytes.
+     * @throws IOException If the file could not be created or mapped.
+     */
+    SpillFile(Path path, int capacity) throws IOException {
+        if (capacity < 8) throw new IllegalArgumentException("Capacity must be at least 8 bytes");
+        this.path = path;
+        this.capacity = capacity;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * Writes a record to the end of the ring.
+     *
+     * @param record Record to write.
+     * @return {@code true} if the record was written, {@code false} if there wasn't enough room for it.
+     */
+    synchronized boolean offer(byte[] record) {
+        if (buffer == null) return false;
+        if (capacity - (tail - head) < Integer.BYTES + record.length) return false;
+        byte[] length = new byte[]{(byte) (record.length >>> 24), (byte) (record.length >>> 16), (byte) (record.length >>> 8), (byte) record.length};
+        put(length);
+        put(record);
+        count++;
+        return true;
+    }
+
+    /**
+     * Reads and removes the record at the start of the ring.
+     *
+     * @return The oldest record, or {@code null} if the ring is empty.
+     */
+    synchronized byte[] poll() {
+        if (buffer == null || count == 0) return null;
+        byte[] length = take(Integer.BYTES);
+        byte[] record = take(((length[0] & 0xFF) << 24) | ((length[1] & 0xFF) << 16) | ((length[2] & 0xFF) << 8) | (length[3] & 0xFF));
+        count--;
+        if (count == 0) head = tail = 0;
+        return record;
+    }
+
+    private void put(byte[] bytes) {
+        int position = (int) (tail % capacity);
+        int first = Math.min(bytes.length, capacity - position);
+        buffer.put(position, bytes, 0, first);
+        if (first < bytes.length) buffer.put(0, bytes, first, bytes.length - first);
+        tail += bytes.length;
+    }
+
+    private byte[] take(int length) {
+        byte[] bytes = new byte[length];
+        int position = (int) (head % capacity);
+        int first = Math.min(length, capacity - position);
+        buffer.get(position, bytes, 0, first);
+        if (first < length) buffer.get(0, bytes, first, length - first);
+        head += length;
+        return bytes;
+    }
+
+    /**
+     * Returns the amount of records in the ring.
+     *
+     * @return Record count.
+     */
+    synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Returns the amount of bytes used by records in the ring.
+     *
+     * @return Used bytes.
+     */
+    synchronized long usedBytes() {
+        return tail - head;
+    }
+
+    /**
+     * Forgets every record, closes the file and deletes it. Java can't unmap a file on demand, so the mapping stays
+     * until the buffer is garbage-collected. Until then, the file is truncated if possible so it doesn't take up disk
+     * space, and if the operating system doesn't allow deleting it while it is mapped, it is deleted when the JVM
+     * exits instead.
+     *
+     * @throws IOException If the file could not be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer == null) return;
+        buffer = null;
+        head = tail = 0;
+        count = 0;
+        try {
+            channel.truncate(0);
+        } catch (IOException ignored) {
+            // mapped files can't be truncated on some systems, the file is deleted below anyway.
+        }
+        channel.close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+
+}
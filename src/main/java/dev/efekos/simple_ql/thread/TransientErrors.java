@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.thread;
+
+import java.sql.*;
+
+/**
+ * Classifies {@link SQLException}s by whether the failed statement might succeed if it is executed again.
+ *
+ * @since 1.2
+ */
+public final class TransientErrors {
+
+    private static final int SQLITE_BUSY = 5;
+    private static final int SQLITE_LOCKED = 6;
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MYSQL_DEADLOCK = 1213;
+
+    private TransientErrors() {
+    }
+
+    /**
+     * Returns whether the given exception, or any exception it was caused by, means the connection itself is broken.
+     * Such connections should be validated and replaced before being used again.
+     *
+     * @param e An exception thrown by JDBC.
+     * @return Whether the exception is a connection error.
+     */
+    public static boolean isConnectionError(SQLException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLRecoverableException || t instanceof SQLTransientConnectionException || t instanceof SQLNonTransientConnectionException)
+                return true;
+            if (t instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08"))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether executing the failed statement again might succeed. This is the case for connection errors,
+     * {@link SQLTransientException}s, transaction rollbacks ({@code SQLSTATE} class {@code 40}), lock timeouts and
+     * deadlocks of MySQL, and {@code SQLITE_BUSY}/{@code SQLITE_LOCKED} errors of SQLite.
+     *
+     * @param e An exception thrown by JDBC.
+     * @return Whether the exception is transient.
+     */
+    public static boolean isTransient(SQLException e) {
+        if (isConnectionError(e)) return true;
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLTransientException) return true;
+            if (!(t instanceof SQLException sql)) continue;
+            String state = sql.getSQLState();
+            if (state != null && state.startsWith("40")) return true;
+            if (sql.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT || sql.getErrorCode() == MYSQL_DEADLOCK) return true;
+            if (isSQLiteBusy(sql)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isSQLiteBusy(SQLException e) {
+        if (e.getClass().getName().startsWith("org.sqlite.")) {
+            int primary = e.getErrorCode() & 0xFF;
+            if (primary == SQLITE_BUSY || primary == SQLITE_LOCKED) return true;
+        }
+        String message = e.getMessage();
+        return message != null && (message.contains("SQLITE_BUSY") || message.contains("SQLITE_LOCKED"));
+    }
+
+}
@@ -0,0 +1,313 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.thread;
+
+import dev.efekos.simple_ql.data.SetterAction;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A data statement waiting in a {@link WriteQueue}, together with the values of its parameters. Parameter values are
+ * captured when the action is created, so the statement writes the row as it was at that moment no matter when it is
+ * executed. Parameters are bound using the setter of their runtime type, unless a {@link SetterAction} is given for
+ * them, such as the setter of the {@link dev.efekos.simple_ql.implementor.Implementor} their value was written by.
+ *
+ * @since 1.2
+ */
+public final class UpdateAction {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte SHORT = 6;
+    private static final byte BYTE = 7;
+    private static final byte BOOLEAN = 8;
+    private static final byte BYTES = 9;
+
+    private final String table;
+    private final String statement;
+    private final Object[] parameters;
+    private final List<SetterAction<Object>> setters;
+    private final CompletableFuture<Void> completion;
+    private final long createdAt;
+
+    /**
+     * Creates a new action.
+     *
+     * @param table      Name of the table this action is for.
+     * @param statement  Statement to execute.
+     * @param parameters Values of the parameters of the statement, in order. Values should be {@link String}s, boxed
+     *                   primitives, {@code byte[]}s or {@code null}; anything else is set using
+     *                   {@link PreparedStatement#setObject(int, Object)} and can't be spilled to a file.
+     */
+    public UpdateAction(String table, String statement, Object... parameters) {
+        this(table, statement, Collections.nCopies(parameters.length, null), parameters);
+    }
+
+    /**
+     * Creates a new action whose parameters are bound using the given setters. Actions that have at least one setter
+     * can't be spilled to a file, as setters can't be written to one.
+     *
+     * @param table      Name of the table this action is for.
+     * @param statement  Statement to execute.
+     * @param setters    Setters of the parameters, in order. A {@code null} setter binds its parameter using the setter
+     *                   of its runtime type, the same way {@link #UpdateAction(String, String, Object...)} does.
+     * @param parameters Values of the parameters of the statement, in order.
+     * @throws IllegalArgumentException if there isn't a setter for every parameter.
+     * @since 1.2
+     */
+    public UpdateAction(String table, String statement, List<SetterAction<Object>> setters, Object... parameters) {
+        this(table, statement, parameters, setters, new CompletableFuture<>(), System.nanoTime());
+    }
+
+    private UpdateAction(String table, String statement, Object[] parameters, List<SetterAction<Object>> setters, CompletableFuture<Void> completion, long createdAt) {
+        if (setters.size() != parameters.length)
+            throw new IllegalArgumentException("Expected " + parameters.length + " setters, got " + setters.size());
+        this.table = table;
+        this.statement = statement;
+        this.parameters = parameters;
+        this.setters = Collections.unmodifiableList(new ArrayList<>(setters));
+        this.completion = completion;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Reads an action written using {@link #encode()}.
+     *
+     * @param bytes      Encoded action.
+     * @param completion Completion of the action that was encoded.
+     * @return The decoded action.
+     */
+    static UpdateAction decode(byte[] bytes, CompletableFuture<Void> completion) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            long createdAt = in.readLong();
+            String table = readString(in);
+            String statement = readString(in);
+            Object[] parameters = new Object[in.readInt()];
+            for (int i = 0; i < parameters.length; i++) {
+                byte tag = in.readByte();
+                parameters[i] = switch (tag) {
+                    case NULL -> null;
+                    case STRING -> readString(in);
+                    case INTEGER -> in.readInt();
+                    case LONG -> in.readLong();
+                    case DOUBLE -> in.readDouble();
+                    case FLOAT -> in.readFloat();
+                    case SHORT -> in.readShort();
+                    case BYTE -> in.readByte();
+                    case BOOLEAN -> in.readBoolean();
+                    case BYTES -> in.readNBytes(in.readInt());
+                    default -> throw new IllegalStateException("Unknown parameter tag " + tag);
+                };
+            }
+            return new UpdateAction(table, statement, parameters, Collections.nCopies(parameters.length, null), completion, createdAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes this action into bytes that can be read back using {@link #decode(byte[], CompletableFuture)}.
+     *
+     * @return Encoded action, or {@code null} if one of the parameters has a setter or a type that can't be encoded.
+     */
+    byte[] encode() {
+        for (SetterAction<Object> setter : setters) if (setter != null) return null;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeLong(createdAt);
+            writeString(out, table);
+            writeString(out, statement);
+            out.writeInt(parameters.length);
+            for (Object parameter : parameters) {
+                if (parameter == null) out.writeByte(NULL);
+                else if (parameter instanceof String s) {
+                    out.writeByte(STRING);
+                    writeString(out, s);
+                } else if (parameter instanceof Integer i) {
+                    out.writeByte(INTEGER);
+                    out.writeInt(i);
+                } else if (parameter instanceof Long l) {
+                    out.writeByte(LONG);
+                    out.writeLong(l);
+                } else if (parameter instanceof Double d) {
+                    out.writeByte(DOUBLE);
+                    out.writeDouble(d);
+                } else if (parameter instanceof Float f) {
+                    out.writeByte(FLOAT);
+                    out.writeFloat(f);
+                } else if (parameter instanceof Short s) {
+                    out.writeByte(SHORT);
+                    out.writeShort(s);
+                } else if (parameter instanceof Byte b) {
+                    out.writeByte(BYTE);
+                    out.writeByte(b);
+                } else if (parameter instanceof Boolean b) {
+                    out.writeByte(BOOLEAN);
+                    out.writeBoolean(b);
+                } else if (parameter instanceof byte[] b) {
+                    out.writeByte(BYTES);
+                    out.writeInt(b.length);
+                    out.write(b);
+                } else return null;
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the values of the parameters of the statement of this action, in order.
+     *
+     * @return Parameter values.
+     */
+    public List<Object> getParameters() {
+        return Collections.unmodifiableList(Arrays.asList(parameters));
+    }
+
+    /**
+     * Sets the parameters of the given statement to the values of this action.
+     *
+     * @param stmt A statement prepared using {@link #getStatement()}.
+     * @throws SQLException If any occur.
+     */
+    public void bind(PreparedStatement stmt) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            SetterAction<Object> setter = setters.get(i);
+            if (setter != null && parameters[i] != null) setter.set(stmt, i + 1, parameters[i]);
+            else bindParameter(stmt, i + 1, parameters[i]);
+        }
+    }
+
+    /**
+     * Binds a single column value to the {@code index}th parameter of a statement, using the setter of its runtime
+     * type.
+     *
+     * @param stmt      A statement.
+     * @param index     Index of the parameter, starting from 1.
+     * @param parameter A column value, already converted by its implementor if there is one.
+     * @throws SQLException if the parameter can't be bound.
+     * @since 1.2
+     */
+    public static void bindParameter(PreparedStatement stmt, int index, Object parameter) throws SQLException {
+        if (parameter == null) stmt.setNull(index, Types.NULL);
+        else if (parameter instanceof String s) stmt.setString(index, s);
+        else if (parameter instanceof Integer n) stmt.setInt(index, n);
+        else if (parameter instanceof Long n) stmt.setLong(index, n);
+        else if (parameter instanceof Double n) stmt.setDouble(index, n);
+        else if (parameter instanceof Float n) stmt.setFloat(index, n);
+        else if (parameter instanceof Short n) stmt.setShort(index, n);
+        else if (parameter instanceof Byte n) stmt.setByte(index, n);
+        else if (parameter instanceof Boolean b) stmt.setBoolean(index, b);
+        else if (parameter instanceof byte[] b) stmt.setBytes(index, b);
+        else stmt.setObject(index, parameter);
+    }
+
+    /**
+     * Returns the name of the table this action is for.
+     *
+     * @return Table name.
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the statement of this action.
+     *
+     * @return SQL statement.
+     */
+    public String getStatement() {
+        return statement;
+    }
+
+    /**
+     * Returns whether executing the statement of this action again after it took effect leaves the database the same.
+     * This is the case for every statement except {@code INSERT}s, which would add the row twice or fail because it
+     * exists. Only idempotent actions are executed again when the connection breaks before their outcome is known.
+     *
+     * @return Whether this action is idempotent.
+     * @since 1.2
+     */
+    public boolean isIdempotent() {
+        return !statement.stripLeading().regionMatches(true, 0, "INSERT", 0, 6);
+    }
+
+    /**
+     * Returns the time this action was created at, as a {@link System#nanoTime()} value.
+     *
+     * @return Creation time in nanoseconds.
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns a future that completes once this action is executed, or completes exceptionally if it fails.
+     *
+     * @return Completion of this action.
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "UpdateAction{" +
+                "table='" + table + '\'' +
+                ", statement='" + statement + '\'' +
+                ", parameters=" + Arrays.toString(parameters) +
+                '}';
+    }
+
+}
@@ -30,6 +30,10 @@ import org.slf4j.LoggerFactory;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A thread used to execute database actions where the result is ignored.
@@ -40,8 +44,10 @@ public class UpdateActionThread extends Thread {
 
     private static final Logger log = LoggerFactory.getLogger(UpdateActionThread.class);
     private final Connection connection;
-    private final String statement;
+    private final List<String> statements;
     private final StatementPreparer consumer;
+    private final Lock connectionLock;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
 
     /**
      * Creates a new thread
@@ -51,10 +57,37 @@ public class UpdateActionThread extends Thread {
      * @param consumer   A preparer to prepare a statement by setting values properly.
      */
     public UpdateActionThread(Connection connection, String statement, StatementPreparer consumer) {
+        this(connection, List.of(statement), consumer);
+    }
+
+    /**
+     * Creates a new thread that executes multiple statements in order, stopping at the first one that fails.
+     *
+     * @param connection Connection to execute statements on.
+     * @param statements Statements to execute.
+     * @param consumer   A preparer to prepare each statement by setting values properly.
+     * @since 1.2
+     */
+    public UpdateActionThread(Connection connection, List<String> statements, StatementPreparer consumer) {
+        this(connection, statements, consumer, new ReentrantLock());
+    }
+
+    /**
+     * Creates a new thread that executes multiple statements in order on a shared connection, stopping at the first one
+     * that fails. The lock is held while each statement is executed.
+     *
+     * @param connection     Connection to execute statements on.
+     * @param statements     Statements to execute.
+     * @param consumer       A preparer to prepare each statement by setting values properly.
+     * @param connectionLock Lock guarding the connection, see {@link WriteQueue#WriteQueue(WriteQueue.ConnectionSupplier, Lock)}.
+     * @since 1.2
+     */
+    public UpdateActionThread(Connection connection, List<String> statements, StatementPreparer consumer, Lock connectionLock) {
         super("SimpleQL-UpdateThread");
         this.connection = connection;
-        this.statement = statement;
+        this.statements = List.copyOf(statements);
         this.consumer = consumer;
+        this.connectionLock = connectionLock;
     }
 
     /**
@@ -62,16 +95,37 @@ public class UpdateActionThread extends Thread {
      */
     @Override
     public void run() {
-        try (PreparedStatement stmt = connection.prepareStatement(statement)) {
-            PreparedStatement applied = consumer.prepare(stmt);
-            applied.executeUpdate();
+        try {
+            for (String statement : statements) {
+                connectionLock.lock();
+                try (PreparedStatement stmt = connection.prepareStatement(statement)) {
+                    PreparedStatement applied = consumer.prepare(stmt);
+                    applied.executeUpdate();
+                } finally {
+                    connectionLock.unlock();
+                }
+            }
+            completion.complete(null);
         } catch (SQLException e) {
             log.error("Could not update database.", e);
+            completion.completeExceptionally(e);
         } catch (Exception e) {
             log.error("Statement preparer error.", e);
+            completion.completeExceptionally(e);
         }
     }
 
+    /**
+     * Returns a future that completes once the statement of this thread is executed, or completes exceptionally if the
+     * statement could not be prepared or executed.
+     *
+     * @return Completion of this thread's statement.
+     * @since 1.2
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
     /**
      * A functional interface that is used to prepare a statement by setting values properly before execution.
      */
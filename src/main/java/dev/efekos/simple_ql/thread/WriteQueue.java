@@ -0,0 +1,776 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.simple_ql.thread;
+
+import dev.efekos.simple_ql.exception.WriteQueueFullException;
+import dev.efekos.simple_ql.exception.WriteOutcomeUnknownException;
+import dev.efekos.simple_ql.jfr.StatementEvent;
+import dev.efekos.simple_ql.jfr.WriteDequeueEvent;
+import dev.efekos.simple_ql.jfr.WriteEnqueueEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A queue of {@link UpdateAction}s executed one after another by a single background thread, in the order they were
+ * submitted. The queue has a high-water mark; once it holds that many actions, new actions are handled according to
+ * its {@link OverflowPolicy} instead of piling up in memory while the database is stalled.
+ * <p>
+ * Actions are executed in batches inside one transaction, where consecutive actions with the same statement share a
+ * JDBC batch. The batch size and the time the thread waits for a batch to fill up adapt to the depth of the queue and
+ * the measured execution time of actions, aiming to keep the 99th percentile execution time under
+ * {@link #getTargetLatency()}. Batches grow while actions are piling up in the queue.
+ * <p>
+ * Actions that fail with a transient error are executed again according to the {@link RetryPolicy} of the queue, and
+ * connection errors make the queue ask its {@link ConnectionSupplier} for a new connection before retrying. If a batch
+ * still fails, its actions are executed one by one so one bad action doesn't fail the others. Only the final outcome of
+ * each statement is reported to the {@link ExecutionListener} and recorded as a JFR event.
+ * <p>
+ * If the connection breaks after a statement or a commit was sent, the statement might have taken effect already. Only
+ * {@link UpdateAction#isIdempotent() idempotent} actions are executed again then, and the others fail with a
+ * {@link WriteOutcomeUnknownException} instead of being applied twice.
+ * <p>
+ * The thread of the queue is a daemon and only stops once the queue is closed. If the JVM exits before that, a
+ * shutdown hook waits up to 30 seconds for the actions still in the queue to be executed.
+ *
+ * @since 1.2
+ */
+public class WriteQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteQueue.class);
+    private static final long SHUTDOWN_FLUSH_TIMEOUT_NANOS = Duration.ofSeconds(30).toNanos();
+    private final ConnectionSupplier connectionSupplier;
+    private final Lock connectionLock;
+    private final Deque<UpdateAction> queue = new ArrayDeque<>();
+    private final Deque<CompletableFuture<Void>> spilledCompletions = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer();
+    private int highWaterMark = 10_000;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private volatile RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+    private volatile ExecutionListener executionListener = (actions, rows, nanos, error) -> {
+    };
+    private SpillFile spillFile;
+    private Thread writer;
+    private Thread shutdownHook;
+    private boolean executing;
+    private boolean closed;
+
+    /**
+     * Creates a new queue that doesn't share its connection with anything else. The thread of the queue starts with
+     * the first submitted action.
+     *
+     * @param connectionSupplier Supplier of the connection to execute actions on.
+     */
+    public WriteQueue(ConnectionSupplier connectionSupplier) {
+        this(connectionSupplier, new ReentrantLock());
+    }
+
+    /**
+     * Creates a new queue whose connection is shared with other threads. The queue holds {@code connectionLock} for as
+     * long as it uses the connection, including the whole transaction of a batch, so every other thread using the
+     * connection must hold the same lock while it does, or its statements might become part of a transaction of the
+     * queue and be rolled back with it. The thread of the queue starts with the first submitted action.
+     *
+     * @param connectionSupplier Supplier of the connection to execute actions on.
+     * @param connectionLock     Lock guarding the connection.
+     */
+    public WriteQueue(ConnectionSupplier connectionSupplier, Lock connectionLock) {
+        this.connectionSupplier = connectionSupplier;
+        this.connectionLock = Objects.requireNonNull(connectionLock);
+    }
+
+    /**
+     * Adds an action to the end of the queue.
+     *
+     * @param action Action to execute.
+     * @throws WriteQueueFullException if the queue is full and the overflow policy is {@link OverflowPolicy#FAIL}, or
+     *                                 the thread was interrupted while waiting for room in the queue.
+     * @throws IllegalStateException   if the queue is closed.
+     */
+    public void submit(UpdateAction action) {
+        WriteEnqueueEvent event = new WriteEnqueueEvent();
+        event.begin();
+        lock.lock();
+        try {
+            if (closed) throw new IllegalStateException("Write queue is closed");
+            startWriter();
+            while (true) {
+                boolean spilled = spillFile != null && spillFile.count() > 0;
+                if (!spilled && queue.size() < highWaterMark) {
+                    queue.addLast(action);
+                    notEmpty.signal();
+                    event.emit(action.getTable(), action.getStatement(), queue.size(), false);
+                    return;
+                }
+                if (overflowPolicy == OverflowPolicy.FAIL)
+                    throw new WriteQueueFullException("Write queue reached its high-water mark of " + highWaterMark + " actions");
+                if (overflowPolicy == OverflowPolicy.SPILL && spill(action)) {
+                    event.emit(action.getTable(), action.getStatement(), queue.size(), true);
+                    return;
+                }
+                notFull.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteQueueFullException("Interrupted while waiting for room in the write queue");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean spill(UpdateAction action) {
+        byte[] record = action.encode();
+        if (record == null || spillFile == null || !spillFile.offer(record)) return false;
+        spilledCompletions.addLast(action.getCompletion());
+        notEmpty.signal();
+        return true;
+    }
+
+    private void startWriter() {
+        if (writer != null && writer.isAlive()) return;
+        writer = new Thread(this::runWriter, "SimpleQL-WriteThread");
+        writer.setDaemon(true);
+        writer.start();
+        if (shutdownHook == null) {
+            shutdownHook = new Thread(this::flushOnShutdown, "SimpleQL-WriteShutdownThread");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    /**
+     * Gives the thread of the queue some time to execute waiting actions when the JVM exits without the queue being
+     * closed, as the thread is a daemon and would be stopped with them still in the queue.
+     */
+    private void flushOnShutdown() {
+        lock.lock();
+        try {
+            long remaining = SHUTDOWN_FLUSH_TIMEOUT_NANOS;
+            while ((executing || !queue.isEmpty() || getSpilledCount() != 0) && remaining > 0)
+                remaining = drained.awaitNanos(remaining);
+            if (remaining <= 0)
+                log.warn("JVM is exiting with " + (queue.size() + getSpilledCount()) + " actions left in the write queue.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWriter() {
+        List<UpdateAction> batch = new ArrayList<>();
+        while (true) {
+            lock.lock();
+            try {
+                refill();
+                while (queue.isEmpty()) {
+                    if (closed) return;
+                    notEmpty.await();
+                    refill();
+                }
+                WriteDequeueEvent event = new WriteDequeueEvent();
+                event.begin();
+                int batchSize = sizer.getBatchSize();
+                long wait = sizer.getFlushInterval();
+                while (queue.size() < batchSize && !closed && wait > 0) {
+                    wait = notEmpty.awaitNanos(wait);
+                    refill();
+                }
+                while (batch.size() < batchSize && !queue.isEmpty()) batch.add(queue.pollFirst());
+                event.emit(batch.size(), queue.size(), System.nanoTime() - batch.get(0).getCreatedAt());
+                executing = true;
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                // only closing the queue stops the thread, so interrupts can't leave actions behind
+                continue;
+            } finally {
+                lock.unlock();
+            }
+
+            long start = System.nanoTime();
+            execute(batch);
+            sizer.record(System.nanoTime() - start, batch.size());
+            batch.clear();
+
+            int depth;
+            lock.lock();
+            try {
+                executing = false;
+                depth = queue.size();
+                if (queue.isEmpty() && getSpilledCount() == 0) drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            sizer.adjust(depth);
+        }
+    }
+
+    /**
+     * Reads spilled actions back into the queue once it is below half of its high-water mark, which means the
+     * database is keeping up again.
+     */
+    private void refill() {
+        if (spillFile == null || queue.size() > highWaterMark / 2) return;
+        while (queue.size() < highWaterMark) {
+            byte[] record = spillFile.poll();
+            if (record == null) break;
+            queue.addLast(UpdateAction.decode(record, spilledCompletions.pollFirst()));
+        }
+        notFull.signalAll();
+    }
+
+    private void execute(List<UpdateAction> batch) {
+        if (batch.size() == 1) {
+            execute(batch.get(0));
+            return;
+        }
+        List<Execution> executions = new ArrayList<>();
+        try {
+            retrying(() -> {
+                executions.clear();
+                connectionLock.lock();
+                try {
+                    executeInTransaction(connectionSupplier.get(), batch, executions);
+                } finally {
+                    connectionLock.unlock();
+                }
+            });
+        } catch (OutcomeUnknownException e) {
+            log.warn("Connection broke while committing a batch of " + batch.size() + " actions, executing the idempotent ones again.", e);
+            for (UpdateAction action : batch) {
+                if (action.isIdempotent()) execute(action);
+                else complete(action, new WriteOutcomeUnknownException("Connection broke while committing the statement of this action", e.getCause()));
+            }
+            return;
+        } catch (Exception e) {
+            // statements of a rolled back transaction never happened, so only the actions executed alone are reported
+            log.warn("Could not execute a batch of " + batch.size() + " actions, executing them one by one.", e);
+            for (UpdateAction action : batch) execute(action);
+            return;
+        }
+        for (Execution execution : executions) report(execution);
+        for (UpdateAction action : batch) complete(action, null);
+    }
+
+    private void executeInTransaction(Connection connection, List<UpdateAction> batch, List<Execution> executions) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            int i = 0;
+            while (i < batch.size()) {
+                String statement = batch.get(i).getStatement();
+                int first = i;
+                try (PreparedStatement stmt = connection.prepareStatement(statement)) {
+                    while (i < batch.size() && batch.get(i).getStatement().equals(statement)) {
+                        batch.get(i).bind(stmt);
+                        stmt.addBatch();
+                        i++;
+                    }
+                    Execution execution = executeStatement(stmt, batch.subList(first, i), true);
+                    if (execution.error() != null) throw execution.error();
+                    executions.add(execution);
+                }
+            }
+            try {
+                connection.commit();
+            } catch (SQLException e) {
+                // the commit might have reached the database before the connection broke
+                if (TransientErrors.isConnectionError(e)) throw new OutcomeUnknownException(e);
+                throw e;
+            }
+        } catch (SQLException | RuntimeException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackError) {
+                e.addSuppressed(rollbackError);
+            }
+            throw e;
+        } finally {
+            try {
+                connection.setAutoCommit(autoCommit);
+            } catch (SQLException ignored) {
+                // the connection is broken, it will be replaced before the next attempt.
+            }
+        }
+    }
+
+    private void execute(UpdateAction action) {
+        Execution[] last = new Execution[1];
+        try {
+            retrying(() -> {
+                last[0] = null;
+                connectionLock.lock();
+                try (PreparedStatement stmt = connectionSupplier.get().prepareStatement(action.getStatement())) {
+                    action.bind(stmt);
+                    last[0] = executeStatement(stmt, List.of(action), false);
+                } finally {
+                    connectionLock.unlock();
+                }
+                SQLException error = last[0].error();
+                if (error == null) return;
+                // the statement might have taken effect before the connection broke
+                if (!action.isIdempotent() && TransientErrors.isConnectionError(error)) throw new OutcomeUnknownException(error);
+                throw error;
+            });
+            report(last[0]);
+            complete(action, null);
+        } catch (OutcomeUnknownException e) {
+            log.error("Connection broke while executing a statement, it may or may not have taken effect.", e);
+            report(last[0]);
+            complete(action, new WriteOutcomeUnknownException("Connection broke while executing the statement of this action", e.getCause()));
+        } catch (SQLException e) {
+            log.error("Could not update database.", e);
+            if (last[0] != null) report(last[0]);
+            complete(action, e);
+        } catch (Exception e) {
+            log.error("Write queue error.", e);
+            complete(action, e);
+        }
+    }
+
+    /**
+     * Executes a statement without reporting it, since it might still be retried or rolled back.
+     *
+     * @param stmt    Statement to execute, with its parameters or batch already set.
+     * @param actions Actions the statement is executed for.
+     * @param batch   Whether to execute the statement as a JDBC batch.
+     * @return Outcome of the statement.
+     */
+    private Execution executeStatement(PreparedStatement stmt, List<UpdateAction> actions, boolean batch) {
+        StatementEvent event = new StatementEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            int rows = 0;
+            if (batch) {
+                for (int count : stmt.executeBatch()) if (count > 0) rows += count;
+            } else rows = stmt.executeUpdate();
+            event.end();
+            return new Execution(actions, event, rows, System.nanoTime() - start, null);
+        } catch (SQLException e) {
+            event.end();
+            return new Execution(actions, event, 0, System.nanoTime() - start, e);
+        }
+    }
+
+    private void report(Execution execution) {
+        UpdateAction first = execution.actions().get(0);
+        execution.event().emitEnded(first.getTable(), first.getStatement(), execution.actions().size(), execution.rows(), execution.error() != null);
+        notifyExecuted(execution.actions(), execution.rows(), execution.nanos(), execution.error());
+    }
+
+    private void retrying(Attempt attempt) throws SQLException, InterruptedException {
+        RetryPolicy policy = retryPolicy;
+        for (int i = 1; ; i++) {
+            try {
+                attempt.run();
+                return;
+            } catch (OutcomeUnknownException e) {
+                connectionSupplier.invalidate();
+                throw e;
+            } catch (SQLException e) {
+                if (i >= policy.maxAttempts() || !TransientErrors.isTransient(e)) throw e;
+                if (TransientErrors.isConnectionError(e)) connectionSupplier.invalidate();
+                Duration backoff = policy.backoff(i);
+                log.warn("Transient database error on attempt " + i + ", retrying in " + backoff.toMillis() + "ms.", e);
+                Thread.sleep(backoff.toMillis(), (int) (backoff.toNanos() % 1_000_000));
+            }
+        }
+    }
+
+    private void notifyExecuted(List<UpdateAction> actions, int rows, long nanos, SQLException error) {
+        try {
+            executionListener.executed(actions, rows, nanos, error);
+        } catch (RuntimeException e) {
+            log.warn("Execution listener failed.", e);
+        }
+    }
+
+    private void complete(UpdateAction action, Throwable throwable) {
+        if (throwable == null) action.getCompletion().complete(null);
+        else action.getCompletion().completeExceptionally(throwable);
+    }
+
+    /**
+     * Waits until every action submitted so far is executed, including spilled ones.
+     *
+     * @throws InterruptedException if the thread was interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+        lock.lock();
+        try {
+            while (executing || !queue.isEmpty() || getSpilledCount() != 0) drained.await();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every submitted action is executed, then stops the thread of the queue and deletes its spill file.
+     * Actions can't be submitted after this.
+     *
+     * @throws InterruptedException if the thread was interrupted while waiting.
+     */
+    public void close() throws InterruptedException {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        flush();
+        if (writer != null) writer.join();
+        if (shutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException ignored) {
+                // the JVM is already exiting, and the hook has nothing left to wait for.
+            }
+        }
+        lock.lock();
+        try {
+            if (spillFile != null) spillFile.close();
+        } catch (IOException e) {
+            log.warn("Could not close spill file.", e);
+        } finally {
+            spillFile = null;
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the amount of actions this queue can hold in memory before its overflow policy kicks in.
+     *
+     * @param highWaterMark New high-water mark.
+     * @throws IllegalArgumentException if {@code highWaterMark} is not a positive number.
+     */
+    public void setHighWaterMark(int highWaterMark) {
+        if (highWaterMark <= 0) throw new IllegalArgumentException("High-water mark must be greater than 0");
+        lock.lock();
+        try {
+            this.highWaterMark = highWaterMark;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes what happens to new actions once the queue reaches its high-water mark.
+     *
+     * @param overflowPolicy New policy.
+     * @throws IllegalStateException if {@code overflowPolicy} is {@link OverflowPolicy#SPILL} and no spill file was
+     *                               set using {@link #setSpillFile(Path, int)}.
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        lock.lock();
+        try {
+            if (overflowPolicy == OverflowPolicy.SPILL && spillFile == null)
+                throw new IllegalStateException("A spill file must be set before using " + OverflowPolicy.SPILL);
+            this.overflowPolicy = overflowPolicy;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates the memory-mapped file that overflowing actions are spilled to when the overflow policy is
+     * {@link OverflowPolicy#SPILL}. Can only be set once.
+     *
+     * @param path     Path of the file. Replaced if it already exists.
+     * @param capacity Size of the file in bytes.
+     * @throws IOException           If the file could not be created.
+     * @throws IllegalStateException if a spill file was already set.
+     */
+    public void setSpillFile(Path path, int capacity) throws IOException {
+        lock.lock();
+        try {
+            if (spillFile != null) throw new IllegalStateException("Spill file is already set");
+            spillFile = new SpillFile(path, capacity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes how failed actions are retried.
+     *
+     * @param retryPolicy New retry policy. {@link RetryPolicy#NONE} disables retrying.
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Changes the listener notified every time this queue executes a statement, whether it succeeds or not.
+     *
+     * @param executionListener New execution listener.
+     */
+    public void setExecutionListener(ExecutionListener executionListener) {
+        this.executionListener = Objects.requireNonNull(executionListener);
+    }
+
+    /**
+     * Returns how failed actions are retried.
+     *
+     * @return Retry policy.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Returns the high-water mark of this queue.
+     *
+     * @return High-water mark.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Returns the overflow policy of this queue.
+     *
+     * @return Overflow policy.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Changes the 99th percentile latency this queue aims for, measured as the share of an action in the execution time
+     * of its batch, without the time it waited in the queue. Batches grow while actions are waiting to fill them, and
+     * shrink while the latency is above this otherwise.
+     *
+     * @param targetLatency New target latency.
+     * @throws IllegalArgumentException if {@code targetLatency} is not positive.
+     */
+    public void setTargetLatency(Duration targetLatency) {
+        if (targetLatency.isNegative() || targetLatency.isZero())
+            throw new IllegalArgumentException("Target latency must be positive");
+        sizer.setTargetLatency(targetLatency.toNanos());
+    }
+
+    /**
+     * Returns the 99th percentile latency this queue aims for.
+     *
+     * @return Target latency.
+     */
+    public Duration getTargetLatency() {
+        return Duration.ofNanos(sizer.getTargetLatency());
+    }
+
+    /**
+     * Changes the largest batch size this queue can choose.
+     *
+     * @param maxBatchSize New maximum batch size. {@code 1} disables batching.
+     * @throws IllegalArgumentException if {@code maxBatchSize} is not a positive number.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("Maximum batch size must be greater than 0");
+        sizer.setMaxBatchSize(maxBatchSize);
+    }
+
+    /**
+     * Returns the largest batch size this queue can choose.
+     *
+     * @return Maximum batch size.
+     */
+    public int getMaxBatchSize() {
+        return sizer.getMaxBatchSize();
+    }
+
+    /**
+     * Changes the longest time the thread of this queue can wait for a batch to fill up.
+     *
+     * @param maxFlushInterval New maximum flush interval. {@link Duration#ZERO} disables waiting.
+     * @throws IllegalArgumentException if {@code maxFlushInterval} is negative.
+     */
+    public void setMaxFlushInterval(Duration maxFlushInterval) {
+        if (maxFlushInterval.isNegative()) throw new IllegalArgumentException("Maximum flush interval must not be negative");
+        sizer.setMaxFlushInterval(maxFlushInterval.toNanos());
+    }
+
+    /**
+     * Returns the longest time the thread of this queue can wait for a batch to fill up.
+     *
+     * @return Maximum flush interval.
+     */
+    public Duration getMaxFlushInterval() {
+        return Duration.ofNanos(sizer.getMaxFlushInterval());
+    }
+
+    /**
+     * Returns the batch size currently chosen by this queue.
+     *
+     * @return Current batch size.
+     */
+    public int getBatchSize() {
+        return sizer.getBatchSize();
+    }
+
+    /**
+     * Returns the time the thread of this queue currently waits for a batch to fill up.
+     *
+     * @return Current flush interval.
+     */
+    public Duration getFlushInterval() {
+        return Duration.ofNanos(sizer.getFlushInterval());
+    }
+
+    /**
+     * Returns the 99th percentile latency of recently executed actions, as of the last executed batch. See
+     * {@link #setTargetLatency(Duration)} for how it is measured.
+     *
+     * @return Recent 99th percentile latency.
+     */
+    public Duration getLatencyP99() {
+        return Duration.ofNanos(sizer.getP99());
+    }
+
+    /**
+     * Returns the amount of actions waiting in memory, not counting spilled actions.
+     *
+     * @return Queue depth.
+     */
+    public int getDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the amount of actions waiting in the spill file.
+     *
+     * @return Spilled action count.
+     */
+    public int getSpilledCount() {
+        SpillFile file = spillFile;
+        return file == null ? 0 : file.count();
+    }
+
+    /**
+     * Returns the amount of bytes used by actions waiting in the spill file.
+     *
+     * @return Spilled bytes.
+     */
+    public long getSpilledBytes() {
+        SpillFile file = spillFile;
+        return file == null ? 0 : file.usedBytes();
+    }
+
+    /**
+     * A functional interface used to get the connection actions are executed on.
+     */
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+
+        /**
+         * Returns the connection to execute the next action on.
+         *
+         * @return A connection.
+         * @throws SQLException If a connection could not be provided.
+         */
+        Connection get() throws SQLException;
+
+        /**
+         * Called when an action fails because of a connection error, so the next call to {@link #get()} can validate
+         * the connection and replace it if it is broken. Does nothing by default.
+         */
+        default void invalidate() {
+        }
+
+    }
+
+    /**
+     * A functional interface used to observe the statements a {@link WriteQueue} executes. Called on the thread of the
+     * queue, so it should return quickly.
+     */
+    @FunctionalInterface
+    public interface ExecutionListener {
+
+        /**
+         * Called after a statement is executed for one or more actions, either alone or as a JDBC batch.
+         *
+         * @param actions Actions the statement was executed for, all having the same statement.
+         * @param rows    Total amount of rows the statement changed.
+         * @param nanos   Time it took to execute the statement, in nanoseconds.
+         * @param error   The exception the statement failed with, or {@code null} if it succeeded.
+         */
+        void executed(List<UpdateAction> actions, int rows, long nanos, SQLException error);
+
+    }
+
+    /**
+     * Outcome of a statement executed for one or more actions, reported once it is final.
+     */
+    private record Execution(List<UpdateAction> actions, StatementEvent event, int rows, long nanos, SQLException error) {
+    }
+
+    /**
+     * Thrown by an attempt when the connection broke after a statement that can't be executed twice was sent, so
+     * executing it again might apply it twice.
+     */
+    private static final class OutcomeUnknownException extends SQLException {
+
+        private static final long serialVersionUID = 1L;
+
+        private OutcomeUnknownException(SQLException cause) {
+            super(cause.getMessage(), cause.getSQLState(), cause.getErrorCode(), cause);
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface Attempt {
+
+        void run() throws SQLException;
+
+    }
+
+}
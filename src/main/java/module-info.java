@@ -1,11 +1,15 @@
 module SimpleQL {
     requires java.sql;
+    requires jdk.jfr;
     requires org.slf4j;
+    requires static org.xerial.sqlitejdbc;
     exports dev.efekos.simple_ql;
     exports dev.efekos.simple_ql.exception;
     exports dev.efekos.simple_ql.annotation;
     exports dev.efekos.simple_ql.data;
     exports dev.efekos.simple_ql.implementor;
+    exports dev.efekos.simple_ql.jfr;
+    exports dev.efekos.simple_ql.metrics;
     exports dev.efekos.simple_ql.query;
     exports dev.efekos.simple_ql.thread;
 }
\ No newline at end of file
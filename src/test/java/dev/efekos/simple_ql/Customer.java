@@ -1,6 +1,8 @@
 package dev.efekos.simple_ql;
 
+import dev.efekos.simple_ql.annotation.Index;
 import dev.efekos.simple_ql.annotation.Primary;
+import dev.efekos.simple_ql.annotation.Searchable;
 import dev.efekos.simple_ql.annotation.Type;
 import dev.efekos.simple_ql.data.AdaptedList;
 import dev.efekos.simple_ql.data.Table;
@@ -15,12 +17,14 @@ public class Customer extends TableRow<Customer> {
     @Primary
     private UUID id;
 
+    @Searchable
     private String name;
 
     private CustomerMoney money;
 
     private CustomerGender gender;
 
+    @Index
     private int age;
 
     private AdaptedList<String> relatives;
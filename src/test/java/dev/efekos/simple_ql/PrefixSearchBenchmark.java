@@ -0,0 +1,121 @@
+package dev.efekos.simple_ql;
+
+import dev.efekos.simple_ql.data.Database;
+import dev.efekos.simple_ql.data.Table;
+import dev.efekos.simple_ql.query.Conditions;
+import dev.efekos.simple_ql.query.QueryBuilder;
+import dev.efekos.simple_ql.query.QueryResult;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+public class PrefixSearchBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int RUNS = 50;
+
+    public static void main(String[] args) throws Exception {
+        // Both columns are indexed. 'text' is NOCASE, where SQLite can use the index for LIKE too, and 'code' is BINARY,
+        // where it can't. Each column is searched with LIKE and with the range query() compiles its prefixes to.
+        Database database = SimpleQL.createDatabase("jdbc:sqlite::memory:", "simpleql");
+        database.connect();
+        Table<Word> words = database.registerTable("words", Word.class);
+        database.whenReady().join();
+
+        Random random = new Random(42);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            String text = randomWord(random);
+            String code = randomCode(random);
+            int id = i;
+            words.insertRow(w -> {
+                w.setId(id);
+                w.setText(text);
+                w.setCode(code);
+            });
+        }
+        database.getWriteQueue().flush();
+        System.out.printf("Inserted %d rows in %d ms%n", ROWS, (System.nanoTime() - start) / 1_000_000);
+
+        // Warm up every path before measuring.
+        for (String column : new String[]{"text", "code"}) {
+            Function<Random, String> prefix = column.equals("text") ? PrefixSearchBenchmark::randomWord : PrefixSearchBenchmark::randomCode;
+            measureLike(database, column, prefix, 5);
+            measureRange(database, column, prefix, 5);
+            measureQuery(words, column, prefix, 5);
+        }
+
+        System.out.printf("LIKE on text (NOCASE):    %.2f ms/query%n", measureLike(database, "text", PrefixSearchBenchmark::randomWord, RUNS));
+        System.out.printf("Range on text (NOCASE):   %.2f ms/query%n", measureRange(database, "text", PrefixSearchBenchmark::randomWord, RUNS));
+        System.out.printf("query() on text (NOCASE): %.2f ms/query%n", measureQuery(words, "text", PrefixSearchBenchmark::randomWord, RUNS));
+        System.out.printf("LIKE on code (BINARY):    %.2f ms/query%n", measureLike(database, "code", PrefixSearchBenchmark::randomCode, RUNS));
+        System.out.printf("Range on code (BINARY):   %.2f ms/query%n", measureRange(database, "code", PrefixSearchBenchmark::randomCode, RUNS));
+        System.out.printf("query() on code (BINARY): %.2f ms/query%n", measureQuery(words, "code", PrefixSearchBenchmark::randomCode, RUNS));
+
+        database.disconnect();
+    }
+
+    private static double measureLike(Database database, String column, Function<Random, String> values, int runs) throws SQLException {
+        Random random = new Random(7);
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            String prefix = values.apply(random).substring(0, 3);
+            execute(database, "SELECT * FROM words WHERE " + column + " LIKE ?;", prefix + "%");
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / runs;
+    }
+
+    private static double measureRange(Database database, String column, Function<Random, String> values, int runs) throws SQLException {
+        Random random = new Random(7);
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            String prefix = values.apply(random).substring(0, 3);
+            String end = prefix.substring(0, prefix.length() - 1) + (char) (prefix.charAt(prefix.length() - 1) + 1);
+            execute(database, "SELECT * FROM words WHERE " + column + " >= ? AND " + column + " < ?;", prefix, end);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / runs;
+    }
+
+    private static double measureQuery(Table<Word> words, String column, Function<Random, String> values, int runs) {
+        Random random = new Random(7);
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            QueryResult<Word> result = words.query(new QueryBuilder()
+                    .filterWithCondition(Conditions.matchTextStartingWith(column, values.apply(random).substring(0, 3)))
+                    .getQuery()
+            );
+            if (result.hasException()) throw new IllegalStateException(result.exception());
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / runs;
+    }
+
+    private static void execute(Database database, String sql, String... parameters) throws SQLException {
+        Lock lock = database.getConnectionLock();
+        lock.lock();
+        try (PreparedStatement stmt = database.getConnection().prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) stmt.setString(i + 1, parameters[i]);
+            try (ResultSet set = stmt.executeQuery()) {
+                while (set.next()) set.getInt("id");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String randomWord(Random random) {
+        char[] chars = new char[8];
+        for (int i = 0; i < chars.length; i++) chars[i] = (char) ('a' + random.nextInt(26));
+        return new String(chars);
+    }
+
+    private static String randomCode(Random random) {
+        char[] chars = new char[8];
+        for (int i = 0; i < chars.length; i++) chars[i] = (char) ('0' + random.nextInt(10));
+        return new String(chars);
+    }
+
+}
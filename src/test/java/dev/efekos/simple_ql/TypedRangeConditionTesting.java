@@ -0,0 +1,28 @@
+package dev.efekos.simple_ql;
+
+import dev.efekos.simple_ql.query.StatementBuilder;
+import dev.efekos.simple_ql.query.TypedRangeCondition;
+
+import java.util.List;
+
+public class TypedRangeConditionTesting {
+
+    public static void main(String[] args) {
+        // A quote in a bound must not end the string literal early.
+        TypedRangeCondition<String> condition = new TypedRangeCondition<>("O'Brien", true, "O'Connor' OR '1'='1", false, "name");
+
+        String sql = condition.toSqlCode();
+        System.out.println(sql);
+        if (!sql.equals("name >= 'O''Brien' AND name < 'O''Connor'' OR ''1''=''1'"))
+            throw new IllegalStateException("Quotes in the bounds weren't escaped: " + sql);
+
+        StatementBuilder builder = new StatementBuilder();
+        condition.appendSql(builder);
+        System.out.println(builder.getSql() + " " + builder.getParameters());
+        if (!builder.getSql().equals("name >= ? AND name < ?"))
+            throw new IllegalStateException("Bounds weren't bound as parameters: " + builder.getSql());
+        if (!builder.getParameters().equals(List.of("O'Brien", "O'Connor' OR '1'='1")))
+            throw new IllegalStateException("Wrong parameters: " + builder.getParameters());
+    }
+
+}
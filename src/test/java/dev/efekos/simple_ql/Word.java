@@ -0,0 +1,60 @@
+package dev.efekos.simple_ql;
+
+import dev.efekos.simple_ql.annotation.Index;
+import dev.efekos.simple_ql.annotation.Primary;
+import dev.efekos.simple_ql.annotation.Type;
+import dev.efekos.simple_ql.data.Table;
+import dev.efekos.simple_ql.data.TableRow;
+
+public class Word extends TableRow<Word> {
+
+    @Primary
+    private int id;
+
+    @Index
+    @Type("TEXT COLLATE NOCASE")
+    private String text;
+
+    @Index
+    private String code;
+
+    public Word(Class<Word> clazz, Table<Word> parentTable) {
+        super(clazz, parentTable);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+        markDirty("id");
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+        markDirty("text");
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+        markDirty("code");
+    }
+
+    @Override
+    public String toString() {
+        return "Word{" +
+                "id=" + id +
+                ", text='" + text + '\'' +
+                ", code='" + code + '\'' +
+                '}';
+    }
+}
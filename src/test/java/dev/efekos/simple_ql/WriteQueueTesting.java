@@ -0,0 +1,56 @@
+package dev.efekos.simple_ql;
+
+import dev.efekos.simple_ql.thread.UpdateAction;
+import dev.efekos.simple_ql.thread.WriteQueue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+
+public class WriteQueueTesting {
+
+    private static final int ACTIONS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        // A connection that takes 2ms for every statement, so actions are submitted much faster than they are executed.
+        PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(WriteQueueTesting.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, arguments) -> switch (method.getName()) {
+            case "executeBatch" -> {
+                Thread.sleep(2);
+                yield new int[0];
+            }
+            case "executeUpdate" -> {
+                Thread.sleep(2);
+                yield 1;
+            }
+            default -> null;
+        });
+        Connection connection = (Connection) Proxy.newProxyInstance(WriteQueueTesting.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, arguments) -> switch (method.getName()) {
+            case "prepareStatement" -> statement;
+            case "getAutoCommit" -> true;
+            default -> null;
+        });
+
+        WriteQueue queue = new WriteQueue(() -> connection);
+        queue.setHighWaterMark(ACTIONS);
+        // Even a full batch takes longer per action than this, so only the backlog can make the batches grow.
+        queue.setTargetLatency(Duration.ofNanos(1_000));
+        for (int i = 0; i < ACTIONS; i++) queue.submit(new UpdateAction("actions", "UPDATE actions SET value = ? WHERE id = 1;", i));
+
+        // The batch size must grow while actions are piling up, and never shrink while they still are.
+        int largest = 0;
+        int smallestAfterGrowing = Integer.MAX_VALUE;
+        while (queue.getDepth() > queue.getMaxBatchSize()) {
+            int batchSize = queue.getBatchSize();
+            largest = Math.max(largest, batchSize);
+            if (largest >= 64) smallestAfterGrowing = Math.min(smallestAfterGrowing, batchSize);
+            Thread.sleep(1);
+        }
+        queue.close();
+
+        System.out.println("Largest batch size: " + largest + ", smallest after growing: " + smallestAfterGrowing);
+        if (largest < 64) throw new IllegalStateException("Batch size didn't grow while the queue was backed up");
+        if (smallestAfterGrowing < 64) throw new IllegalStateException("Batch size collapsed while the queue was backed up");
+    }
+
+}